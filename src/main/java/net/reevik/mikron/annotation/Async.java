@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark the methods of a managed instance, which are called on the executor of the
+ * context instead of the calling thread. The methods return either nothing, or a
+ * {@link java.util.concurrent.CompletableFuture}, {@link java.util.concurrent.CompletionStage} or
+ * {@link java.util.concurrent.Future}, which completes with the result of the method.
+ * <p>
+ * The calls are asynchronous only through the interfaces of the managed instance, i.e., if it is
+ * wired into a field, whose type is one of its interfaces.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Async {
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to collect the concurrent calls of a single-key method of a managed instance into
+ * batches, which are dispatched to a bulk method of the same managed instance. The bulk method
+ * takes the list of the distinct keys of a batch, and returns the results as a map by the keys.
+ * A batch is dispatched once the window elapsed after its first call, or it reaches the maximum
+ * size. If the single-key method returns a {@link java.util.concurrent.CompletionStage}, the
+ * callers get the future of their results, otherwise they wait for them. The keys missing in the
+ * results resolve to null, so the single-key method must not return a primitive type. The calls
+ * are batched only through the interfaces of the managed instance.
+ * <p>
+ * The window and the maximum size can be configured in the configuration of the context, i.e.,
+ * "MikronContext.properties", under the keys "mikron.batch.&lt;name&gt;.window" and
+ * "mikron.batch.&lt;name&gt;.maxSize", which override the ones given in the annotation.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Batched {
+
+  /**
+   * Name of the bulk method, which takes a {@link java.util.List} of the keys and returns a
+   * {@link java.util.Map} of the results by the keys.
+   *
+   * @return Name of the bulk method.
+   */
+  String value();
+
+  /**
+   * Name of the batcher. The default is the name of the managed type and the method name
+   * separated by "#".
+   *
+   * @return Name of the batcher.
+   */
+  String name() default "";
+
+  /**
+   * The maximum number of the calls in a batch.
+   *
+   * @return The maximum batch size.
+   */
+  int maxSize() default 100;
+
+  /**
+   * The time in milliseconds, a batch collects the calls after its first one.
+   *
+   * @return The window in milliseconds.
+   */
+  long window() default 5;
+}
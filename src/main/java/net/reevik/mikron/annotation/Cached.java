@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to cache the results of a method of a managed instance by its arguments. The cache
+ * admits the new entries by their frequencies (W-TinyLFU), once it is full. The results are
+ * cached only for the calls through the interfaces of the managed instance.
+ * <p>
+ * The maximum size and the time-to-live can be configured in the configuration of the context,
+ * i.e., "MikronContext.properties", under the keys "mikron.cache.&lt;name&gt;.maximumSize" and
+ * "mikron.cache.&lt;name&gt;.ttl", which override the ones given in the annotation.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cached {
+
+  /**
+   * Name of the cache. The default is the name of the managed type and the method name
+   * separated by "#".
+   *
+   * @return Name of the cache.
+   */
+  String name() default "";
+
+  /**
+   * The maximum number of the entries.
+   *
+   * @return The maximum size.
+   */
+  long maximumSize() default 1_000;
+
+  /**
+   * The time in milliseconds, an entry is kept after it is written, or zero if unlimited.
+   *
+   * @return The time-to-live in milliseconds.
+   */
+  long ttl() default 0;
+}
@@ -23,11 +23,19 @@ import java.lang.annotation.Target;
 
 /**
  * Annotation to mark methods of a managed instance, which will ve called whenever the context
- * gets destroyed.
+ * gets destroyed. The managed instances are cleaned up after the ones depending on them, and the
+ * independent ones concurrently.
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface CleanUp {
 
+  /**
+   * The time in milliseconds, the clean-up of the managed instance may take. Zero falls back to
+   * "mikron.cleanup.timeout" of the context, which is unlimited by default.
+   *
+   * @return The timeout in milliseconds.
+   */
+  long timeout() default 0;
 }
@@ -24,7 +24,9 @@ import net.reevik.mikron.configuration.DefaultTypeConverter;
 import net.reevik.mikron.configuration.TypeConverter;
 
 /**
- * Annotation used to define configuration injection points.
+ * Annotation used to define configuration injection points. If the context watches the
+ * configuration sources, the injection points are re-bound on the watcher thread, so the fields
+ * re-bound must be volatile, or {@link net.reevik.mikron.configuration.ConfigValue} handles.
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
@@ -38,6 +40,16 @@ public @interface Configurable {
    */
   String name() default "";
 
+  /**
+   * Key prefix of a configuration group, which is bound into a record or a POJO in one pass, e.g.,
+   * "db.pool" binds the keys "db.pool.size" and "db.pool.timeout" into the components "size" and
+   * "timeout". If the prefix is set, the name is ignored. The bound records are immutable, while
+   * the bound POJOs are mutable objects, which are created anew on every binding.
+   *
+   * @return Key prefix of the configuration group.
+   */
+  String prefix() default "";
+
   /**
    * You can implement your own configuration to entity binding for custom data types.
    *
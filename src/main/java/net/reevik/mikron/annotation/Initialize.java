@@ -24,9 +24,29 @@ import java.lang.annotation.Target;
 /**
  * Annotation to mark methods of a managed instance, which will ve called whenever the context
  * get builds and after the managed instance gets constructed.
+ * <p>
+ * The asynchronous initialize methods, and the ones returning a
+ * {@link java.util.concurrent.CompletionStage}, run concurrently with the rest of the start-up.
+ * The context completes its initialization once all of them have completed, and cancels the
+ * others as soon as one of them fails or times out.
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Initialize {
+
+  /**
+   * Whether the method is called on a virtual thread instead of the thread building the context.
+   *
+   * @return true if the method is called asynchronously.
+   */
+  boolean async() default false;
+
+  /**
+   * The time in milliseconds, the asynchronous initialization of the method may take. Zero
+   * falls back to "mikron.initialize.timeout" of the context, which is unlimited by default.
+   *
+   * @return The timeout in milliseconds.
+   */
+  long timeout() default 0;
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to bind a managed {@link net.reevik.mikron.interceptor.MethodInterceptor} to the
+ * methods of the managed instances, which are annotated with one of the annotations given, or
+ * declared by a managed type, which is annotated with one of them, or is a subtype of one of the
+ * types given.
+ * <p>
+ * The calls are intercepted only through the interfaces of the managed instances, i.e., if they
+ * are wired into the fields, whose types are their interfaces. The managed instances without
+ * interceptors aren't proxied.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Intercepts {
+
+  /**
+   * The annotations of the methods or the managed types intercepted.
+   *
+   * @return The annotation types.
+   */
+  Class<? extends Annotation>[] annotations() default {};
+
+  /**
+   * The types, whose subtypes are intercepted.
+   *
+   * @return The types.
+   */
+  Class<?>[] types() default {};
+
+  /**
+   * The order of the interceptor in the chain, in which the lower orders are called first.
+   *
+   * @return The order.
+   */
+  int order() default 0;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark the factory methods of a managed instance, whose results are registered as
+ * managed instances, e.g., thread pools or HTTP clients of third-party libraries. The parameters
+ * of the factory methods are wired from the context, either by the name given in {@link Wire} on
+ * the parameter, or else by their types. Each factory method is called once.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Provides {
+
+  /**
+   * Name of the managed instance provided. The default is the name of the return type.
+   *
+   * @return Name of the managed instance.
+   */
+  String name() default "";
+
+  /**
+   * Whether the managed instance is created once it is requested for the first time, i.e., once a
+   * managed instance depending on it is created, or it is looked up in the context, instead of at
+   * start-up.
+   *
+   * @return True, if the managed instance is created lazily.
+   */
+  boolean lazy() default false;
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to mark the methods of a managed instance without parameters, which are called
+ * periodically once the context is built, either at a fixed rate or with a fixed delay between
+ * the end of a call and the start of the next one. The calls run on virtual threads, and a call
+ * of a fixed-rate method is skipped if the previous one hasn't completed yet.
+ * <p>
+ * The intervals can be configured in the configuration of the managed instance under the keys
+ * "&lt;prefix&gt;.fixedRate", "&lt;prefix&gt;.fixedDelay" and "&lt;prefix&gt;.initialDelay",
+ * which override the ones given in the annotation.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Scheduled {
+
+  /**
+   * The period between the starts of the calls.
+   *
+   * @return The period.
+   */
+  long fixedRate() default 0;
+
+  /**
+   * The delay between the end of a call and the start of the next one.
+   *
+   * @return The delay.
+   */
+  long fixedDelay() default 0;
+
+  /**
+   * The delay before the first call.
+   *
+   * @return The initial delay.
+   */
+  long initialDelay() default 0;
+
+  /**
+   * The time unit of the intervals.
+   *
+   * @return The time unit.
+   */
+  TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+  /**
+   * Key prefix of the intervals in the configuration of the managed instance.
+   *
+   * @return The key prefix.
+   */
+  String prefix() default "";
+}
@@ -42,7 +42,8 @@ public @interface Wire {
   String name() default "";
 
   /**
-   * Configuration filter to identify the properties file.
+   * Configuration filter to identify the properties file, e.g., "region=eu,tier!=gold". The
+   * conditions are separated by commas, and all of them must hold.
    *
    * @return The configuration file filter.
    */
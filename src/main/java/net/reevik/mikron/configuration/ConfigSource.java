@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * A layer of configuration, e.g., the properties files or the system properties. The
+ * {@link PropertiesRepository} merges the configuration sources into a single
+ * {@link ConfigurationSnapshot}, in which the values of the sources with higher ordinals override
+ * the ones with lower ordinals. Further sources can be registered through
+ * {@link java.util.ServiceLoader}.
+ */
+public interface ConfigSource {
+
+  int YAML_ORDINAL = 100;
+  int PROPERTIES_ORDINAL = 200;
+  int ENVIRONMENT_ORDINAL = 300;
+  int SYSTEM_PROPERTIES_ORDINAL = 400;
+
+  /**
+   * The precedence of the source. Higher ordinals override the lower ones.
+   *
+   * @return The ordinal of the source.
+   */
+  int getOrdinal();
+
+  /**
+   * (Re)loads all configurations of the source.
+   */
+  void load();
+
+  /**
+   * Returns the names of the configuration sources, e.g., the properties file names, the source
+   * defines. Sources which only override the values of other sources return an empty set.
+   *
+   * @return The names of the configuration sources defined.
+   */
+  Set<String> getSourceNames();
+
+  /**
+   * Returns the configuration values the source contributes to the configuration source given.
+   *
+   * @param sourceName The name of the configuration source.
+   * @return The configuration values, if the source contributes any.
+   */
+  Optional<Properties> getConfiguration(String sourceName);
+
+  /**
+   * The directories, in which the changes are watched, if watching is enabled.
+   *
+   * @return The directories to watch.
+   */
+  default Collection<Path> getWatchedDirectories() {
+    return List.of();
+  }
+
+  /**
+   * Reloads the file changed, if it belongs to this source.
+   *
+   * @param file The file, which is created, modified or deleted.
+   * @return The name of the configuration source affected, if the file belongs to this source.
+   */
+  default Optional<String> reload(Path file) {
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+/**
+ * Live handle of a configuration value, which is injected into the fields of type
+ * {@code ConfigValue<T>} annotated with {@link net.reevik.mikron.annotation.Configurable}, e.g.,
+ * {@code @Configurable(name = "limit") ConfigValue<Integer> limit}. The handle is updated once the
+ * configuration source is reloaded, so the readers always see the value of the current
+ * configuration snapshot. Reading the value is a single volatile read and never blocks.
+ *
+ * @param <T> The type of the configuration value.
+ */
+public interface ConfigValue<T> {
+
+  /**
+   * Returns the current configuration value.
+   *
+   * @return The configuration value, or null if it is not configured.
+   */
+  T get();
+
+  /**
+   * Returns the current configuration value, or the other one if it is not configured.
+   *
+   * @param other The value to return if the configuration is missing.
+   * @return The configuration value, or the other one.
+   */
+  default T orElse(T other) {
+    var value = get();
+    return value == null ? other : value;
+  }
+
+  /**
+   * Registers a listener, which gets notified once the configuration value changes. The listeners
+   * are called on the thread, which publishes the new configuration snapshot.
+   *
+   * @param listener The listener.
+   */
+  void addListener(Listener<? super T> listener);
+
+  @FunctionalInterface
+  interface Listener<T> {
+
+    void onChange(T oldValue, T newValue);
+  }
+}
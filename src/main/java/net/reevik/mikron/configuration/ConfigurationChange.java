@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.Set;
+
+/**
+ * A change in a configuration source.
+ *
+ * @param source      The name of the configuration source changed.
+ * @param changedKeys The keys added, removed or modified.
+ * @param snapshot    The configuration snapshot, the change is published with.
+ */
+public record ConfigurationChange(String source, Set<String> changedKeys,
+                                  ConfigurationSnapshot snapshot) {
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import net.reevik.mikron.string.Str;
+
+/**
+ * Filter of the configuration sources, which selects the instance configuration of a managed
+ * instance, e.g., "region=eu,tier!=gold" selects the first instance source in lexicographical
+ * order with "region" set to "eu" and "tier" not set to "gold". The filter expression is parsed
+ * once, and the sources are looked up in the inverted value index of the configuration snapshot,
+ * so the look-up doesn't read the configurations of all instance sources.
+ */
+public final class ConfigurationFilter {
+
+  private static final String SEPARATOR = ",";
+  private static final String NOT_EQUALS = "!=";
+  private static final String EQUALS = "=";
+
+  private final String expression;
+  private final List<Condition> conditions;
+
+  private ConfigurationFilter(String expression, List<Condition> conditions) {
+    this.expression = expression;
+    this.conditions = conditions;
+  }
+
+  /**
+   * Parses the filter expression, which is a comma-separated list of the conditions "key=value"
+   * and "key!=value", all of which must hold.
+   *
+   * @param expression The filter expression.
+   * @return The configuration filter.
+   * @throws IllegalArgumentException If the expression is malformed.
+   */
+  public static ConfigurationFilter parse(String expression) {
+    var conditions = new ArrayList<Condition>();
+    for (var term : expression.split(SEPARATOR)) {
+      var notEquals = term.indexOf(NOT_EQUALS);
+      var equals = term.indexOf(EQUALS);
+      var negated = notEquals >= 0 && notEquals < equals;
+      var operator = negated ? notEquals : equals;
+      if (operator <= 0) {
+        throw new IllegalArgumentException("Malformed configuration filter: " + expression);
+      }
+      var key = term.substring(0, operator).trim();
+      var value = term.substring(operator + (negated ? NOT_EQUALS : EQUALS).length()).trim();
+      if (Str.isEmpty(key)) {
+        throw new IllegalArgumentException("Malformed configuration filter: " + expression);
+      }
+      conditions.add(new Condition(key, value, negated));
+    }
+    conditions.sort(Comparator.comparing(Condition::negated));
+    return new ConfigurationFilter(expression, List.copyOf(conditions));
+  }
+
+  /**
+   * Finds the first configuration source of the managed instance in lexicographical order, which
+   * matches the filter.
+   *
+   * @param snapshot      The configuration snapshot.
+   * @param componentName The name of the managed instance.
+   * @return The name of the matching configuration source.
+   */
+  public Optional<String> findSource(ConfigurationSnapshot snapshot, String componentName) {
+    Stream<String> candidates;
+    var first = conditions.get(0);
+    if (first.negated()) {
+      candidates = snapshot.getInstanceSourceNames(componentName).stream();
+    } else {
+      var instancePrefix = componentName + ConfigurationSnapshot.INSTANCE_SEPARATOR;
+      candidates = snapshot.getSourceNamesWithValue(first.key(), first.value()).stream()
+          .filter(name -> name.equals(componentName) || name.startsWith(instancePrefix));
+    }
+    return candidates.filter(name -> matches(snapshot, name)).min(Comparator.naturalOrder());
+  }
+
+  private boolean matches(ConfigurationSnapshot snapshot, String sourceName) {
+    for (var condition : conditions) {
+      var sources = snapshot.getSourceNamesWithValue(condition.key(), condition.value());
+      if (sources.contains(sourceName) == condition.negated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return expression;
+  }
+
+  private record Condition(String key, String value, boolean negated) {
+
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Binds the configurations under a key prefix into records and POJOs, e.g., the keys
+ * "db.pool.size" and "db.pool.timeout" into a record with the components "size" and "timeout"
+ * for the prefix "db.pool". The components and fields can be of the types supported by the
+ * {@link ConverterRegistry}, enums, nested records and POJOs, {@link List}s of indexed keys, e.g.,
+ * "hosts[0]", "hosts[1]", or of comma-separated values, and {@link Map}s with string keys, e.g.,
+ * "timeouts.read", "timeouts.write".
+ * <p>
+ * The binding plan of a type, i.e., its constructor and the readers of its members, is created
+ * once per type and shared. The bound lists and maps are unmodifiable, so the bound records can be
+ * shared without synchronization.
+ * <p>
+ * POJOs are created with their default constructor and their fields are set, so they aren't
+ * immutable. Every binding creates a new object, and never modifies the ones bound before, so a
+ * POJO can be shared as long as the application doesn't modify it either. Use records for the
+ * configuration groups, which must be immutable.
+ */
+public class ConfigurationObjectBinder {
+
+  private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = Map.of(
+      boolean.class, false, byte.class, (byte) 0, short.class, (short) 0, char.class, '\0',
+      int.class, 0, long.class, 0L, float.class, 0f, double.class, 0d);
+
+  private final ConverterRegistry converterRegistry;
+  private final Map<Class<?>, ObjectPlan> plans = new ConcurrentHashMap<>();
+
+  public ConfigurationObjectBinder(ConverterRegistry converterRegistry) {
+    this.converterRegistry = converterRegistry;
+  }
+
+  /**
+   * Binds the configurations under the prefix into a new object of the type given.
+   *
+   * @param snapshot The configuration snapshot.
+   * @param source   The name of the configuration source.
+   * @param prefix   The key prefix, e.g., "db.pool".
+   * @param type     The record or POJO type.
+   * @return The bound object, or null if there is no configuration under the prefix.
+   */
+  public Object bind(ConfigurationSnapshot snapshot, String source, String prefix, Type type) {
+    return readerOf(type).read(snapshot, source, prefix);
+  }
+
+  private ValueReader readerOf(Type type) {
+    if (type instanceof ParameterizedType parameterized) {
+      var rawType = (Class<?>) parameterized.getRawType();
+      var arguments = parameterized.getActualTypeArguments();
+      if (rawType == List.class) {
+        return listReader(arguments[0]);
+      }
+      if (rawType == Map.class && arguments[0] == String.class) {
+        return mapReader(arguments[1]);
+      }
+    } else if (type instanceof Class<?> clazz) {
+      if (isScalar(clazz)) {
+        var conversion = scalarConversion(clazz);
+        return (snapshot, source, key) -> {
+          var value = snapshot.getResolvedValue(source, key);
+          return value == null ? null : conversion.apply(value);
+        };
+      }
+      if (!clazz.isPrimitive() && !clazz.isArray() && !clazz.isInterface()) {
+        return (snapshot, source, key) -> planOf(clazz).read(snapshot, source, key);
+      }
+    }
+    throw new ConverterNotFoundException("Cannot bind the configurations into type: " + type);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Function<String, Object> scalarConversion(Class<?> type) {
+    if (type.isEnum()) {
+      return value -> Enum.valueOf((Class<Enum>) type, value.trim());
+    }
+    var converter = converterRegistry.getConverter(type, DefaultTypeConverter.class);
+    return converter::convert;
+  }
+
+  private ValueReader listReader(Type elementType) {
+    var elementReader = readerOf(elementType);
+    var elementConversion = isScalar(elementType) ? scalarConversion((Class<?>) elementType)
+        : null;
+    return (snapshot, source, key) -> {
+      var elements = new ArrayList<>();
+      for (int i = 0; ; i++) {
+        var elementKey = key + "[" + i + "]";
+        if (!isPresent(snapshot, source, elementKey)) {
+          break;
+        }
+        elements.add(elementReader.read(snapshot, source, elementKey));
+      }
+      var value = snapshot.getResolvedValue(source, key);
+      if (elements.isEmpty() && elementConversion != null && value != null) {
+        for (var element : value.split(",")) {
+          elements.add(elementConversion.apply(element.trim()));
+        }
+      }
+      return Collections.unmodifiableList(elements);
+    };
+  }
+
+  private ValueReader mapReader(Type valueType) {
+    var valueReader = readerOf(valueType);
+    var isScalar = isScalar(valueType);
+    return (snapshot, source, key) -> {
+      var keyPrefix = key + ".";
+      var entryNames = new LinkedHashSet<String>();
+      for (var entryKey : snapshot.getKeysWithPrefix(source, keyPrefix)) {
+        var entryName = entryKey.substring(keyPrefix.length());
+        entryNames.add(isScalar ? entryName : entryName.split("[.\\[]", 2)[0]);
+      }
+      var entries = new LinkedHashMap<String, Object>();
+      for (var entryName : entryNames) {
+        entries.put(entryName, valueReader.read(snapshot, source, keyPrefix + entryName));
+      }
+      return Collections.unmodifiableMap(entries);
+    };
+  }
+
+  private boolean isScalar(Type type) {
+    return type instanceof Class<?> clazz && (clazz.isEnum()
+        || converterRegistry.isConvertible(clazz));
+  }
+
+  private static boolean isPresent(ConfigurationSnapshot snapshot, String source, String key) {
+    return snapshot.getValue(source, key) != null
+        || !snapshot.getKeysWithPrefix(source, key + ".").isEmpty()
+        || !snapshot.getKeysWithPrefix(source, key + "[").isEmpty();
+  }
+
+  private ObjectPlan planOf(Class<?> type) {
+    var plan = plans.get(type);
+    if (plan == null) {
+      plan = type.isRecord() ? createRecordPlan(type) : createPojoPlan(type);
+      var existing = plans.putIfAbsent(type, plan);
+      plan = existing == null ? plan : existing;
+    }
+    return plan;
+  }
+
+  private ObjectPlan createRecordPlan(Class<?> type) {
+    var components = type.getRecordComponents();
+    var names = new String[components.length];
+    var readers = new ValueReader[components.length];
+    var parameterTypes = new Class<?>[components.length];
+    for (int i = 0; i < components.length; i++) {
+      names[i] = components[i].getName();
+      readers[i] = readerOf(components[i].getGenericType());
+      parameterTypes[i] = components[i].getType();
+    }
+    try {
+      var constructor = type.getDeclaredConstructor(parameterTypes);
+      constructor.setAccessible(true);
+      var handle = MethodHandles.lookup().unreflectConstructor(constructor)
+          .asSpreader(Object[].class, components.length);
+      return new ObjectPlan(names, readers, parameterTypes, handle, null);
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private ObjectPlan createPojoPlan(Class<?> type) {
+    var fields = new ArrayList<Field>();
+    for (var clazz = type; clazz != Object.class; clazz = clazz.getSuperclass()) {
+      Arrays.stream(clazz.getDeclaredFields())
+          .filter(field -> !Modifier.isStatic(field.getModifiers()))
+          .filter(field -> !Modifier.isTransient(field.getModifiers()))
+          .filter(field -> !field.isSynthetic())
+          .forEach(fields::add);
+    }
+    var names = new String[fields.size()];
+    var readers = new ValueReader[fields.size()];
+    var setters = new MethodHandle[fields.size()];
+    try {
+      var lookup = MethodHandles.lookup();
+      for (int i = 0; i < fields.size(); i++) {
+        var field = fields.get(i);
+        field.setAccessible(true);
+        names[i] = field.getName();
+        readers[i] = readerOf(field.getGenericType());
+        setters[i] = lookup.unreflectSetter(field);
+      }
+      var constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return new ObjectPlan(names, readers, null, lookup.unreflectConstructor(constructor),
+          setters);
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ValueReader {
+
+    Object read(ConfigurationSnapshot snapshot, String source, String key);
+  }
+
+  /**
+   * The binding plan of a record, which is constructed with all components, or of a POJO, which
+   * is constructed with its default constructor and whose configured fields are set.
+   */
+  private record ObjectPlan(String[] names, ValueReader[] readers, Class<?>[] parameterTypes,
+                            MethodHandle constructor, MethodHandle[] setters) {
+
+    Object read(ConfigurationSnapshot snapshot, String source, String key) {
+      var prefix = key + ".";
+      if (snapshot.getKeysWithPrefix(source, prefix).isEmpty()) {
+        return null;
+      }
+      try {
+        if (setters == null) {
+          var arguments = new Object[names.length];
+          for (int i = 0; i < names.length; i++) {
+            var value = readers[i].read(snapshot, source, prefix + names[i]);
+            arguments[i] = value == null && parameterTypes[i].isPrimitive()
+                ? PRIMITIVE_DEFAULTS.get(parameterTypes[i])
+                : value;
+          }
+          return constructor.invoke(arguments);
+        }
+        var instance = constructor.invoke();
+        for (int i = 0; i < names.length; i++) {
+          var value = readers[i].read(snapshot, source, prefix + names[i]);
+          if (value != null) {
+            setters[i].invoke(instance, value);
+          }
+        }
+        return instance;
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
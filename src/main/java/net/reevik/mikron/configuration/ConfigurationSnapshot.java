@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * An immutable view of all configuration sources at a point in time. Configuration changes never
+ * modify a snapshot, but create a new one, which is then published by the
+ * {@link PropertiesRepository} at once. The {@link Properties} instances returned by a snapshot
+ * must not be modified.
+ */
+public interface ConfigurationSnapshot {
+
+  /**
+   * The separator between the managed instance name and the instance qualifier in the name of a
+   * configuration source, e.g., "Component-instance1".
+   */
+  String INSTANCE_SEPARATOR = "-";
+
+  static ConfigurationSnapshot empty() {
+    return PropertiesSnapshot.EMPTY;
+  }
+
+  static ConfigurationSnapshot of(Map<String, Properties> configurations) {
+    return new PropertiesSnapshot(configurations);
+  }
+
+  Set<String> getSourceNames();
+
+  Optional<Properties> getConfiguration(String name);
+
+  /**
+   * Returns the configuration value. This is the look-up used to bind the configurations, which
+   * doesn't need to materialize the configuration source.
+   *
+   * @param source The name of the configuration source.
+   * @param key    The configuration key.
+   * @return The configuration value, or null if there is none.
+   */
+  String getValue(String source, String key);
+
+  /**
+   * Returns the configuration value with its placeholders expanded, e.g., "${db.host}" or
+   * "${env:DB_HOST:localhost}". The resolved values are memoized per snapshot.
+   *
+   * @param source The name of the configuration source.
+   * @param key    The configuration key.
+   * @return The resolved configuration value, or null if there is none.
+   * @throws CyclicPlaceholderException If the placeholders refer to each other in a cycle.
+   */
+  String getResolvedValue(String source, String key);
+
+  /**
+   * Returns the names of the configuration sources for the managed instance, i.e., the source
+   * named after the managed instance itself and the instance sources, e.g., "Component" and
+   * "Component-instance1", in lexicographical order.
+   *
+   * @param componentName The name of the managed instance.
+   * @return The names of the configuration sources.
+   */
+  Set<String> getInstanceSourceNames(String componentName);
+
+  /**
+   * Returns the names of the configuration sources, in which the configuration key has the
+   * resolved value given. The look-ups go through an inverted index per snapshot.
+   *
+   * @param key   The configuration key.
+   * @param value The resolved configuration value.
+   * @return The names of the configuration sources.
+   */
+  Set<String> getSourceNamesWithValue(String key, String value);
+
+  /**
+   * Returns the keys in the configuration source, which start with the prefix, in lexicographical
+   * order.
+   *
+   * @param source The name of the configuration source.
+   * @param prefix The key prefix.
+   * @return The matching keys.
+   */
+  Set<String> getKeysWithPrefix(String source, String prefix);
+
+  /**
+   * Creates a new snapshot with the configuration sources updated and removed.
+   *
+   * @param updated The configuration sources, which are added or replaced.
+   * @param removed The names of the configuration sources to remove.
+   * @return The new snapshot.
+   */
+  default ConfigurationSnapshot with(Map<String, Properties> updated,
+      Collection<String> removed) {
+    var next = new HashMap<String, Properties>();
+    for (var sourceName : getSourceNames()) {
+      getConfiguration(sourceName).ifPresent(configuration -> next.put(sourceName, configuration));
+    }
+    removed.forEach(next::remove);
+    next.putAll(updated);
+    return of(next);
+  }
+
+  /**
+   * Returns the keys of the configuration source, which are added, removed or have a different
+   * resolved value in this snapshot compared to the other one.
+   *
+   * @param other  The snapshot to compare with.
+   * @param source The name of the configuration source.
+   * @return The changed keys.
+   */
+  default Set<String> changedKeys(ConfigurationSnapshot other, String source) {
+    var mine = getConfiguration(source).orElseGet(Properties::new);
+    var theirs = other.getConfiguration(source).orElseGet(Properties::new);
+    var keys = new HashSet<String>(mine.stringPropertyNames());
+    keys.addAll(theirs.stringPropertyNames());
+    keys.removeIf(key -> Objects.equals(getResolvedValue(source, key),
+        other.getResolvedValue(source, key)));
+    return keys;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import static net.reevik.mikron.configuration.MappedConfigurationSnapshot.ENTRY_SIZE;
+import static net.reevik.mikron.configuration.MappedConfigurationSnapshot.HEADER_SIZE;
+import static net.reevik.mikron.configuration.MappedConfigurationSnapshot.MAGIC;
+import static net.reevik.mikron.configuration.MappedConfigurationSnapshot.SOURCE_SIZE;
+import static net.reevik.mikron.configuration.MappedConfigurationSnapshot.VERSION;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Compiles a configuration snapshot into a binary snapshot file, which can be memory-mapped by
+ * {@link MappedConfigurationSnapshot}, so the configuration files don't need to be parsed at
+ * start-up. The values are compiled as merged from all configuration sources at compile time, so
+ * the environment variables and the system properties of the build are included. The tool can be
+ * run from the command line to compile the configuration sources found in the classpath:
+ * <pre>
+ *   java net.reevik.mikron.configuration.ConfigurationSnapshotCompiler config.snapshot
+ * </pre>
+ */
+public class ConfigurationSnapshotCompiler {
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: ConfigurationSnapshotCompiler <snapshot file>");
+    }
+    var repository = new PropertiesRepository(PropertiesRepository.defaultSources());
+    compile(repository.getSnapshot(), Path.of(args[0]));
+  }
+
+  /**
+   * Compiles the snapshot into the file given.
+   *
+   * @param snapshot The configuration snapshot.
+   * @param file     The snapshot file to write.
+   * @throws IOException If the file cannot be written.
+   */
+  public static void compile(ConfigurationSnapshot snapshot, Path file) throws IOException {
+    var strings = new LinkedHashMap<String, Integer>();
+    var sources = new ArrayList<int[]>();
+    var entries = new ArrayList<int[]>();
+    for (var sourceName : new TreeSet<>(snapshot.getSourceNames())) {
+      var configuration = snapshot.getConfiguration(sourceName).orElseThrow();
+      var keys = new TreeSet<>(configuration.stringPropertyNames());
+      var sourceId = intern(strings, sourceName);
+      sources.add(new int[]{sourceId, entries.size(), keys.size()});
+      for (var key : keys) {
+        entries.add(new int[]{sourceId, intern(strings, key),
+            intern(strings, configuration.getProperty(key)),
+            MappedConfigurationSnapshot.hash(sourceName, key)});
+      }
+    }
+    var index = buildIndex(entries);
+    var encoded = strings.keySet().stream()
+        .map(string -> string.getBytes(StandardCharsets.UTF_8))
+        .toList();
+
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(strings.size());
+      out.writeInt(sources.size());
+      out.writeInt(entries.size());
+      out.writeInt(index.length);
+      var offset = HEADER_SIZE + strings.size() * Integer.BYTES + sources.size() * SOURCE_SIZE
+          + entries.size() * ENTRY_SIZE + index.length * Integer.BYTES;
+      for (var bytes : encoded) {
+        out.writeInt(offset);
+        offset += Integer.BYTES + bytes.length;
+      }
+      writeAll(out, sources);
+      writeAll(out, entries);
+      for (var slot : index) {
+        out.writeInt(slot);
+      }
+      for (var bytes : encoded) {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+    }
+  }
+
+  private static int intern(Map<String, Integer> strings, String string) {
+    return strings.computeIfAbsent(string, s -> strings.size());
+  }
+
+  private static int[] buildIndex(List<int[]> entries) {
+    var capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+    var index = new int[capacity];
+    var mask = capacity - 1;
+    for (int entry = 0; entry < entries.size(); entry++) {
+      var slot = entries.get(entry)[3] & mask;
+      while (index[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      index[slot] = entry + 1;
+    }
+    return index;
+  }
+
+  private static void writeAll(DataOutputStream out, List<int[]> records) throws IOException {
+    for (var record : records) {
+      for (var value : record) {
+        out.writeInt(value);
+      }
+    }
+  }
+}
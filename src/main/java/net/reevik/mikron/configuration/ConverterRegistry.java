@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Context-wide registry of the {@link TypeConverter} instances. The converters are created once
+ * per target type and converter class, and shared by all configuration injection points, so the
+ * converters must be stateless. The conversions of the {@link DefaultTypeConverter} can be
+ * extended by third-party {@link TypeConverterProvider} implementations.
+ */
+public class ConverterRegistry {
+
+  private final Map<Class<?>, Function<String, ?>> conversions;
+  private final Map<ConverterKey, TypeConverter> converters = new ConcurrentHashMap<>();
+
+  public ConverterRegistry() {
+    this(ServiceLoader.load(TypeConverterProvider.class));
+  }
+
+  public ConverterRegistry(Iterable<TypeConverterProvider> providers) {
+    var allConversions = new HashMap<>(DefaultTypeConverter.BUILT_IN_CONVERSIONS);
+    providers.forEach(provider -> allConversions.putAll(provider.getConversions()));
+    this.conversions = Map.copyOf(allConversions);
+  }
+
+  /**
+   * Returns the converter instance for the target type.
+   *
+   * @param targetType    The type, the configuration value is converted into.
+   * @param converterType The converter class, e.g., declared on the injection point.
+   * @return The shared converter instance.
+   */
+  public TypeConverter getConverter(Class<?> targetType,
+      Class<? extends TypeConverter> converterType) {
+    return converters.computeIfAbsent(new ConverterKey(targetType, converterType), this::create);
+  }
+
+  /**
+   * Returns whether there is a conversion for the target type.
+   *
+   * @param targetType The type, the configuration value is converted into.
+   * @return True, if the configuration values can be converted into the type.
+   */
+  public boolean isConvertible(Class<?> targetType) {
+    return conversions.containsKey(targetType);
+  }
+
+  private TypeConverter create(ConverterKey key) {
+    if (key.converterType() == DefaultTypeConverter.class) {
+      return new DefaultTypeConverter(key.targetType(), conversions.get(key.targetType()));
+    }
+    try {
+      try {
+        return key.converterType().getConstructor(Class.class).newInstance(key.targetType());
+      } catch (NoSuchMethodException nsm) {
+        return key.converterType().getConstructor().newInstance();
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private record ConverterKey(Class<?> targetType, Class<? extends TypeConverter> converterType) {
+
+  }
+}
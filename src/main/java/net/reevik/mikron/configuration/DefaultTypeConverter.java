@@ -21,11 +21,29 @@ import java.util.function.Function;
 
 public class DefaultTypeConverter implements TypeConverter {
 
-  private final Map<Class<?>, Function<String, ?>> converters = new HashMap<>();
+  static final Map<Class<?>, Function<String, ?>> BUILT_IN_CONVERSIONS = builtInConversions();
+
   private final Class<?> returnType;
+  private final Function<String, ?> conversion;
 
   public DefaultTypeConverter(Class<?> returnType) {
+    this(returnType, BUILT_IN_CONVERSIONS.get(returnType));
+  }
+
+  /**
+   * Creates a converter with the conversion function resolved in advance, e.g., by the
+   * {@link ConverterRegistry}.
+   *
+   * @param returnType The target type of the conversion.
+   * @param conversion The conversion function, or null if there is no conversion for the type.
+   */
+  public DefaultTypeConverter(Class<?> returnType, Function<String, ?> conversion) {
     this.returnType = returnType;
+    this.conversion = conversion;
+  }
+
+  private static Map<Class<?>, Function<String, ?>> builtInConversions() {
+    Map<Class<?>, Function<String, ?>> converters = new HashMap<>();
     converters.put(Integer.class, Integer::parseInt);
     converters.put(int.class, Integer::parseInt);
     converters.put(Short.class, Short::parseShort);
@@ -39,6 +57,7 @@ public class DefaultTypeConverter implements TypeConverter {
     converters.put(Double.class, Double::parseDouble);
     converters.put(double.class, Double::parseDouble);
     converters.put(String.class, (s) -> s);
+    return Map.copyOf(converters);
   }
 
   @Override
@@ -46,9 +65,8 @@ public class DefaultTypeConverter implements TypeConverter {
     if (value == null) {
       return null;
     }
-    Function<String, ?> stringFunction = converters.get(returnType);
-    if (stringFunction != null) {
-      return stringFunction.apply(value.toString());
+    if (conversion != null) {
+      return conversion.apply(value.toString());
     }
     throw new ConverterNotFoundException(
         "Cannot convert the configuration value=" + value + " to of type: " + value.getClass() +
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import net.reevik.mikron.string.PrefixTrie;
+
+/**
+ * Configuration source which overrides the configuration values by the environment variables. An
+ * environment variable in the form of "MIKRON_&lt;SOURCE NAME&gt;_&lt;KEY&gt;" overrides the key
+ * in the configuration source, in which the source name and the key are upper-cased and the
+ * characters other than letters and digits are replaced by underscores. The key is resolved by
+ * lower-casing it and replacing the underscores by dots, e.g.,
+ * "MIKRON_MANAGEDCONFIGURATION_CONFIG_STR" overrides "config.str" in "ManagedConfiguration".
+ * <p>
+ * Hence, only the keys consisting of lower-case letters, digits and dots can be overridden. The
+ * keys in camel case, or the ones containing "-" or "_", e.g., "maxSize", "max-size" or
+ * "max_size", cannot be expressed by an environment variable.
+ */
+public class EnvironmentConfigSource implements ConfigSource {
+
+  static final String PREFIX = "MIKRON_";
+
+  private final Map<String, String> environment;
+  private volatile PrefixTrie<String> variables = new PrefixTrie<>();
+
+  public EnvironmentConfigSource() {
+    this(System.getenv());
+  }
+
+  public EnvironmentConfigSource(Map<String, String> environment) {
+    this.environment = environment;
+  }
+
+  @Override
+  public int getOrdinal() {
+    return ENVIRONMENT_ORDINAL;
+  }
+
+  @Override
+  public void load() {
+    var trie = new PrefixTrie<String>();
+    environment.forEach((name, value) -> {
+      if (name.startsWith(PREFIX)) {
+        trie.put(name, value);
+      }
+    });
+    variables = trie;
+  }
+
+  @Override
+  public Set<String> getSourceNames() {
+    return Set.of();
+  }
+
+  @Override
+  public Optional<Properties> getConfiguration(String sourceName) {
+    var prefix = PREFIX + normalize(sourceName) + "_";
+    var configuration = new Properties();
+    variables.forEachWithPrefix(prefix, (name, value) -> configuration.setProperty(
+        name.substring(prefix.length()).toLowerCase(Locale.ROOT).replace('_', '.'), value));
+    return configuration.isEmpty() ? Optional.empty() : Optional.of(configuration);
+  }
+
+  static String normalize(String name) {
+    return name.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "_");
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Base class of the configuration sources, which read the configuration files with a given
+ * extension from the roots given, i.e., directories and JAR files. Only the files at the top
+ * level of a root are read. The name of the configuration source is the file name without the
+ * extension. If multiple roots contain a configuration file with the same name, the one in the
+ * first root wins, just like the class loaders resolve the resources. The roots are loaded in
+ * parallel.
+ */
+public abstract class FileConfigSource implements ConfigSource {
+
+  /**
+   * The manifest attribute, which marks a JAR file on the classpath as a configuration root.
+   */
+  public static final String CONFIGURATION_ATTRIBUTE = "Mikron-Configuration";
+
+  private final Map<String, Properties> configurations = new ConcurrentHashMap<>();
+  private final List<Path> roots;
+  private final List<String> extensions;
+
+  protected FileConfigSource(List<Path> roots, String... extensions) {
+    this.roots = List.copyOf(roots);
+    this.extensions = List.of(extensions);
+  }
+
+  /**
+   * Parses the configuration file.
+   *
+   * @param inputStream The content of the configuration file.
+   * @return The configuration values.
+   * @throws IOException If the file cannot be read.
+   */
+  protected abstract Properties parse(InputStream inputStream) throws IOException;
+
+  @Override
+  public void load() {
+    var loadedRoots = roots.parallelStream().map(this::loadRoot).toList();
+    var loaded = new HashMap<String, Properties>();
+    for (int i = loadedRoots.size() - 1; i >= 0; i--) {
+      loaded.putAll(loadedRoots.get(i));
+    }
+    configurations.clear();
+    configurations.putAll(loaded);
+  }
+
+  private Map<String, Properties> loadRoot(Path root) {
+    try {
+      if (Files.isDirectory(root)) {
+        return loadDirectory(root);
+      }
+      if (Files.isRegularFile(root)) {
+        return loadJar(root);
+      }
+      return Map.of();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Map<String, Properties> loadDirectory(Path directory) throws IOException {
+    var loaded = new HashMap<String, Properties>();
+    try (Stream<Path> files = Files.list(directory)) {
+      for (var file : files.filter(this::isConfigFile).filter(Files::isRegularFile).toList()) {
+        loaded.put(getSourceName(file.getFileName().toString()), read(file));
+      }
+    }
+    return loaded;
+  }
+
+  private Map<String, Properties> loadJar(Path jar) throws IOException {
+    var loaded = new HashMap<String, Properties>();
+    try (var jarFile = new JarFile(jar.toFile())) {
+      var entries = jarFile.entries();
+      while (entries.hasMoreElements()) {
+        var entry = entries.nextElement();
+        var entryName = entry.getName();
+        if (!entry.isDirectory() && entryName.indexOf('/') < 0 && isConfigFile(entryName)) {
+          try (var inputStream = jarFile.getInputStream(entry)) {
+            loaded.put(getSourceName(entryName), parse(inputStream));
+          }
+        }
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * Returns whether the classpath root contains configuration files, i.e., it is a directory, or
+   * a JAR file, whose manifest declares the attribute {@value #CONFIGURATION_ATTRIBUTE} as "true".
+   * The other JAR files, e.g., the third-party dependencies, are skipped, so that their files
+   * don't become configuration sources.
+   *
+   * @param root The classpath root.
+   * @return True, if the root is read for configuration files.
+   */
+  static boolean isConfigurationRoot(Path root) {
+    if (Files.isDirectory(root)) {
+      return true;
+    }
+    try (var jarFile = new JarFile(root.toFile())) {
+      var manifest = jarFile.getManifest();
+      return manifest != null && Boolean.parseBoolean(
+          manifest.getMainAttributes().getValue(CONFIGURATION_ATTRIBUTE));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Set<String> getSourceNames() {
+    return configurations.keySet();
+  }
+
+  @Override
+  public Optional<Properties> getConfiguration(String sourceName) {
+    return Optional.ofNullable(configurations.get(sourceName));
+  }
+
+  @Override
+  public Collection<Path> getWatchedDirectories() {
+    return roots.stream().filter(Files::isDirectory).toList();
+  }
+
+  @Override
+  public Optional<String> reload(Path file) {
+    if (!roots.contains(file.getParent()) || !isConfigFile(file)) {
+      return Optional.empty();
+    }
+    var sourceName = getSourceName(file.getFileName().toString());
+    resolve(file.getFileName().toString()).ifPresentOrElse(
+        configuration -> configurations.put(sourceName, configuration),
+        () -> configurations.remove(sourceName));
+    return Optional.of(sourceName);
+  }
+
+  /**
+   * Resolves the configuration file in the directory roots, in which the first one wins.
+   */
+  private Optional<Properties> resolve(String fileName) {
+    for (var root : roots) {
+      if (Files.isDirectory(root)) {
+        var file = root.resolve(fileName);
+        if (Files.isRegularFile(file)) {
+          return Optional.of(read(file));
+        }
+      } else if (Files.isRegularFile(root)) {
+        var configuration = loadRoot(root).get(getSourceName(fileName));
+        if (configuration != null) {
+          return Optional.of(configuration);
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Properties read(Path file) {
+    try (var inputStream = Files.newInputStream(file)) {
+      return parse(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean isConfigFile(Path file) {
+    return isConfigFile(file.getFileName().toString());
+  }
+
+  private boolean isConfigFile(String fileName) {
+    return extensions.stream().anyMatch(fileName::endsWith);
+  }
+
+  private String getSourceName(String fileName) {
+    return fileName.substring(0, fileName.lastIndexOf('.'));
+  }
+}
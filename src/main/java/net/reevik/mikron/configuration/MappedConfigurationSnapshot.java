@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Configuration snapshot, which is memory-mapped from a binary snapshot file compiled by the
+ * {@link ConfigurationSnapshotCompiler}. Opening a snapshot doesn't parse the configurations, but
+ * the look-ups read the mapped file lazily: values are found through the hash index, and the
+ * source names and the keys are found by binary search, since they are sorted in the file. The
+ * strings of the interned string table are decoded once on first access.
+ * <p>
+ * The file layout, in which all numbers are big-endian 32-bit integers:
+ * <pre>
+ *   header:         magic, version, string count, source count, entry count, index capacity
+ *   string offsets: string count x offset of the string
+ *   sources:        source count x (name string, first entry, entry count), sorted by name
+ *   entries:        entry count x (source string, key string, value string, hash), sorted by
+ *                   source and key
+ *   index:          index capacity x (entry + 1, or 0 if the slot is empty), linear probing
+ *   strings:        string count x (length, UTF-8 bytes)
+ * </pre>
+ */
+public final class MappedConfigurationSnapshot implements ConfigurationSnapshot {
+
+  static final int MAGIC = 0x4D4B4353;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 6 * Integer.BYTES;
+  static final int SOURCE_SIZE = 3 * Integer.BYTES;
+  static final int ENTRY_SIZE = 4 * Integer.BYTES;
+
+  private final ByteBuffer buffer;
+  private final int sourceCount;
+  private final int entryCount;
+  private final int indexMask;
+  private final int stringOffsetsPosition;
+  private final int sourcesPosition;
+  private final int entriesPosition;
+  private final int indexPosition;
+  private final AtomicReferenceArray<String> strings;
+  private final PlaceholderResolver resolver = new PlaceholderResolver(this);
+  private final SourceValueIndex valueIndex = new SourceValueIndex(this);
+  private volatile Set<String> sourceNames;
+
+  private MappedConfigurationSnapshot(ByteBuffer buffer) {
+    this.buffer = buffer;
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IllegalArgumentException("Not a configuration snapshot file of version "
+          + VERSION + ".");
+    }
+    var stringCount = buffer.getInt(2 * Integer.BYTES);
+    this.sourceCount = buffer.getInt(3 * Integer.BYTES);
+    this.entryCount = buffer.getInt(4 * Integer.BYTES);
+    var indexCapacity = buffer.getInt(5 * Integer.BYTES);
+    this.indexMask = indexCapacity - 1;
+    this.stringOffsetsPosition = HEADER_SIZE;
+    this.sourcesPosition = stringOffsetsPosition + stringCount * Integer.BYTES;
+    this.entriesPosition = sourcesPosition + sourceCount * SOURCE_SIZE;
+    this.indexPosition = entriesPosition + entryCount * ENTRY_SIZE;
+    this.strings = new AtomicReferenceArray<>(stringCount);
+  }
+
+  /**
+   * Maps the snapshot file into memory.
+   *
+   * @param file The snapshot file.
+   * @return The snapshot.
+   */
+  public static MappedConfigurationSnapshot open(Path file) {
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return new MappedConfigurationSnapshot(
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static int hash(String source, String key) {
+    var hash = source.hashCode() * 31 + key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  @Override
+  public String getValue(String source, String key) {
+    var hash = hash(source, key);
+    for (int slot = hash & indexMask; ; slot = (slot + 1) & indexMask) {
+      var entry = buffer.getInt(indexPosition + slot * Integer.BYTES) - 1;
+      if (entry < 0) {
+        return null;
+      }
+      var entryPosition = entriesPosition + entry * ENTRY_SIZE;
+      if (buffer.getInt(entryPosition + 3 * Integer.BYTES) == hash
+          && string(buffer.getInt(entryPosition)).equals(source)
+          && string(buffer.getInt(entryPosition + Integer.BYTES)).equals(key)) {
+        return string(buffer.getInt(entryPosition + 2 * Integer.BYTES));
+      }
+    }
+  }
+
+  @Override
+  public Set<String> getSourceNames() {
+    var names = sourceNames;
+    if (names == null) {
+      var allNames = new LinkedHashSet<String>();
+      for (int source = 0; source < sourceCount; source++) {
+        allNames.add(sourceName(source));
+      }
+      names = Collections.unmodifiableSet(allNames);
+      sourceNames = names;
+    }
+    return names;
+  }
+
+  @Override
+  public Optional<Properties> getConfiguration(String name) {
+    var source = findSource(name);
+    if (source < 0) {
+      return Optional.empty();
+    }
+    var properties = new Properties();
+    var first = firstEntry(source);
+    for (int entry = first; entry < first + entryCount(source); entry++) {
+      properties.setProperty(key(entry), value(entry));
+    }
+    return Optional.of(properties);
+  }
+
+  @Override
+  public String getResolvedValue(String source, String key) {
+    return resolver.resolve(source, key);
+  }
+
+  @Override
+  public Set<String> getSourceNamesWithValue(String key, String value) {
+    return valueIndex.getSourceNames(key, value);
+  }
+
+  @Override
+  public Set<String> getInstanceSourceNames(String componentName) {
+    var names = new LinkedHashSet<String>();
+    if (findSource(componentName) >= 0) {
+      names.add(componentName);
+    }
+    var prefix = componentName + INSTANCE_SEPARATOR;
+    for (int source = lowerBound(prefix, 0, sourceCount, this::sourceName);
+        source < sourceCount && sourceName(source).startsWith(prefix); source++) {
+      names.add(sourceName(source));
+    }
+    return names;
+  }
+
+  @Override
+  public Set<String> getKeysWithPrefix(String sourceName, String prefix) {
+    var source = findSource(sourceName);
+    if (source < 0) {
+      return Set.of();
+    }
+    var keys = new LinkedHashSet<String>();
+    var first = firstEntry(source);
+    var end = first + entryCount(source);
+    for (int entry = lowerBound(prefix, first, end, this::key);
+        entry < end && key(entry).startsWith(prefix); entry++) {
+      keys.add(key(entry));
+    }
+    return keys;
+  }
+
+  private int findSource(String name) {
+    var source = lowerBound(name, 0, sourceCount, this::sourceName);
+    return source < sourceCount && sourceName(source).equals(name) ? source : -1;
+  }
+
+  /**
+   * Returns the first index in [from, to), of which string is not less than the one given.
+   */
+  private int lowerBound(String value, int from, int to, StringAt stringAt) {
+    var low = from;
+    var high = to;
+    while (low < high) {
+      var middle = (low + high) >>> 1;
+      if (stringAt.get(middle).compareTo(value) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private String sourceName(int source) {
+    return string(buffer.getInt(sourcesPosition + source * SOURCE_SIZE));
+  }
+
+  private int firstEntry(int source) {
+    return buffer.getInt(sourcesPosition + source * SOURCE_SIZE + Integer.BYTES);
+  }
+
+  private int entryCount(int source) {
+    return buffer.getInt(sourcesPosition + source * SOURCE_SIZE + 2 * Integer.BYTES);
+  }
+
+  private String key(int entry) {
+    return string(buffer.getInt(entriesPosition + entry * ENTRY_SIZE + Integer.BYTES));
+  }
+
+  private String value(int entry) {
+    return string(buffer.getInt(entriesPosition + entry * ENTRY_SIZE + 2 * Integer.BYTES));
+  }
+
+  private String string(int id) {
+    var string = strings.get(id);
+    if (string == null) {
+      var offset = buffer.getInt(stringOffsetsPosition + id * Integer.BYTES);
+      var bytes = new byte[buffer.getInt(offset)];
+      buffer.get(offset + Integer.BYTES, bytes);
+      string = new String(bytes, StandardCharsets.UTF_8);
+      strings.compareAndSet(id, null, string);
+    }
+    return string;
+  }
+
+  @FunctionalInterface
+  private interface StringAt {
+
+    String get(int index);
+  }
+}
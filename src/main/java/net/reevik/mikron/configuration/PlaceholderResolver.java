@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Expands the placeholders in the configuration values of a snapshot. A placeholder refers either
+ * to another key in the same configuration source, e.g., "${db.host}", or to an environment
+ * variable, e.g., "${env:DB_HOST}", and may have a default value after a colon, which is used if
+ * the reference is undefined, e.g., "${db.port:5432}". Default values may contain placeholders
+ * themselves, and unresolvable placeholders are kept as they are. The resolved values are
+ * memoized, so that each value is expanded only once per snapshot, no matter how many managed
+ * instances bind it.
+ */
+final class PlaceholderResolver {
+
+  private static final String PREFIX = "${";
+  private static final String SUFFIX = "}";
+  private static final String ENV = "env:";
+
+  private final ConfigurationSnapshot snapshot;
+  private final UnaryOperator<String> environment;
+  private final Map<SourceKey, String> resolved = new ConcurrentHashMap<>();
+
+  PlaceholderResolver(ConfigurationSnapshot snapshot) {
+    this(snapshot, System::getenv);
+  }
+
+  PlaceholderResolver(ConfigurationSnapshot snapshot, UnaryOperator<String> environment) {
+    this.snapshot = snapshot;
+    this.environment = environment;
+  }
+
+  String resolve(String source, String key) {
+    return resolve(new SourceKey(source, key), new ArrayDeque<>());
+  }
+
+  private String resolve(SourceKey sourceKey, Deque<String> resolving) {
+    var value = snapshot.getValue(sourceKey.source(), sourceKey.key());
+    if (value == null || !value.contains(PREFIX)) {
+      return value;
+    }
+    var memoized = resolved.get(sourceKey);
+    if (memoized != null) {
+      return memoized;
+    }
+    if (resolving.contains(sourceKey.key())) {
+      resolving.addLast(sourceKey.key());
+      throw new CyclicPlaceholderException("Cyclic placeholder references in source="
+          + sourceKey.source() + ": " + String.join(" -> ", resolving));
+    }
+    resolving.addLast(sourceKey.key());
+    var expanded = expand(sourceKey.source(), value, resolving);
+    resolving.removeLast();
+    resolved.put(sourceKey, expanded);
+    return expanded;
+  }
+
+  private String expand(String source, String value, Deque<String> resolving) {
+    var result = new StringBuilder(value.length());
+    var position = 0;
+    while (position < value.length()) {
+      var start = value.indexOf(PREFIX, position);
+      var end = start < 0 ? -1 : findClosingBrace(value, start + PREFIX.length());
+      if (end < 0) {
+        result.append(value, position, value.length());
+        break;
+      }
+      result.append(value, position, start);
+      var replacement = evaluate(source, value.substring(start + PREFIX.length(), end),
+          resolving);
+      if (replacement == null) {
+        result.append(value, start, end + SUFFIX.length());
+      } else {
+        result.append(replacement);
+      }
+      position = end + SUFFIX.length();
+    }
+    return result.toString();
+  }
+
+  private String evaluate(String source, String expression, Deque<String> resolving) {
+    var isEnvironment = expression.startsWith(ENV);
+    var reference = isEnvironment ? expression.substring(ENV.length()) : expression;
+    String defaultValue = null;
+    var separator = findDefaultSeparator(reference);
+    if (separator >= 0) {
+      defaultValue = reference.substring(separator + 1);
+      reference = reference.substring(0, separator);
+    }
+    var value = isEnvironment
+        ? environment.apply(reference)
+        : resolve(new SourceKey(source, reference), resolving);
+    if (value == null && defaultValue != null) {
+      return expand(source, defaultValue, resolving);
+    }
+    return value;
+  }
+
+  private static int findClosingBrace(String value, int from) {
+    var depth = 0;
+    for (int i = from; i < value.length(); i++) {
+      if (value.startsWith(PREFIX, i)) {
+        depth++;
+        i += PREFIX.length() - 1;
+      } else if (value.charAt(i) == '}') {
+        if (depth == 0) {
+          return i;
+        }
+        depth--;
+      }
+    }
+    return -1;
+  }
+
+  private static int findDefaultSeparator(String expression) {
+    var separator = expression.indexOf(':');
+    var nested = expression.indexOf(PREFIX);
+    return nested >= 0 && nested < separator ? -1 : separator;
+  }
+
+  private record SourceKey(String source, String key) {
+
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Configuration source of the properties files in the classpath roots.
+ */
+public class PropertiesFileConfigSource extends FileConfigSource {
+
+  public PropertiesFileConfigSource(List<Path> roots) {
+    super(roots, ".properties");
+  }
+
+  @Override
+  public int getOrdinal() {
+    return PROPERTIES_ORDINAL;
+  }
+
+  @Override
+  protected Properties parse(InputStream inputStream) throws IOException {
+    var properties = new Properties();
+    properties.load(inputStream);
+    return properties;
+  }
+}
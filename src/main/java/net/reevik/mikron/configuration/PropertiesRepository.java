@@ -15,57 +15,240 @@
  */
 package net.reevik.mikron.configuration;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import net.reevik.mikron.reflection.ClasspathResourceRepository;
+import net.reevik.mikron.string.Str;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class PropertiesRepository {
+/**
+ * Repository of the configurations. The configurations are merged from a chain of
+ * {@link ConfigSource}s by their ordinals, i.e., YAML and properties files in the classpath roots
+ * and in the external configuration directory, environment variables and system properties, and
+ * the ones registered through {@link ServiceLoader}. The merged configurations are held in an
+ * immutable {@link ConfigurationSnapshot}, which is replaced at once if the configuration files
+ * are reloaded. Watching the configuration files for changes is opt-in, see {@link #watch()}.
+ * <p>
+ * Alternatively, the repository serves a snapshot file compiled by the
+ * {@link ConfigurationSnapshotCompiler}, which is memory-mapped instead of loading the
+ * configuration sources, if the system property "mikron.config.snapshot" is set, or if it is
+ * created by {@link #mapped(Path)}. The compiled snapshot is read-only, and it is not reloaded.
+ */
+public class PropertiesRepository implements AutoCloseable {
+
+  public static final String CONFIG_DIR_PROPERTY = "mikron.config.dir";
+  public static final String CONFIG_DIR_VARIABLE = "MIKRON_CONFIG_DIR";
+  public static final String SNAPSHOT_PROPERTY = "mikron.config.snapshot";
+  private static final Logger LOG = LoggerFactory.getLogger(PropertiesRepository.class);
 
-  private final Map<String, Properties> configurations = new HashMap<>();
+  private final AtomicReference<ConfigurationSnapshot> snapshot =
+      new AtomicReference<>(ConfigurationSnapshot.empty());
+  private final List<ConfigurationChangeListener> listeners = new CopyOnWriteArrayList<>();
+  private final List<ConfigSource> sources;
+  private final ConfigurationSnapshot compiled;
+  private PropertiesWatcher watcher;
 
   public PropertiesRepository() {
-    loadAllProperties();
+    this(Optional.ofNullable(System.getProperty(SNAPSHOT_PROPERTY))
+        .filter(Str::isNotEmpty)
+        .map(file -> MappedConfigurationSnapshot.open(Path.of(file))));
+  }
+
+  private PropertiesRepository(Optional<? extends ConfigurationSnapshot> compiled) {
+    this(compiled.isPresent() ? List.of() : defaultSources(), compiled.orElse(null));
+  }
+
+  public PropertiesRepository(List<ConfigSource> sources) {
+    this(sources, null);
+  }
+
+  private PropertiesRepository(List<ConfigSource> sources, ConfigurationSnapshot compiled) {
+    this.sources = sources.stream().sorted(Comparator.comparingInt(ConfigSource::getOrdinal))
+        .toList();
+    this.compiled = compiled;
+    load();
+  }
+
+  /**
+   * Creates a repository, which serves the compiled snapshot file memory-mapped.
+   *
+   * @param snapshotFile The snapshot file compiled by the {@link ConfigurationSnapshotCompiler}.
+   * @return The properties repository.
+   */
+  public static PropertiesRepository mapped(Path snapshotFile) {
+    return new PropertiesRepository(List.of(), MappedConfigurationSnapshot.open(snapshotFile));
+  }
+
+  /**
+   * Creates the default configuration sources, i.e., the YAML and properties files in the external
+   * configuration directory and in the classpath roots, the environment variables, the system
+   * properties, and the sources registered through {@link ServiceLoader}. The JAR files on the
+   * classpath are read only if their manifest declares the attribute
+   * {@value FileConfigSource#CONFIGURATION_ATTRIBUTE} as "true".
+   * The external configuration directory is set by the system property "mikron.config.dir", or
+   * the environment variable "MIKRON_CONFIG_DIR", and its files take precedence over the ones in
+   * the classpath.
+   *
+   * @return The default configuration sources.
+   */
+  public static List<ConfigSource> defaultSources() {
+    var roots = new ArrayList<Path>();
+    getExternalConfigDirectory().ifPresent(roots::add);
+    ClasspathResourceRepository.getClasspathRoots().stream()
+        .filter(FileConfigSource::isConfigurationRoot)
+        .forEach(roots::add);
+    var sources = new ArrayList<ConfigSource>();
+    sources.add(new YamlConfigSource(roots));
+    sources.add(new PropertiesFileConfigSource(roots));
+    sources.add(new EnvironmentConfigSource());
+    sources.add(new SystemPropertiesConfigSource());
+    ServiceLoader.load(ConfigSource.class).forEach(sources::add);
+    return sources;
+  }
+
+  private static Optional<Path> getExternalConfigDirectory() {
+    return Optional.ofNullable(System.getProperty(CONFIG_DIR_PROPERTY))
+        .or(() -> Optional.ofNullable(System.getenv(CONFIG_DIR_VARIABLE)))
+        .filter(Str::isNotEmpty)
+        .map(Path::of);
   }
 
   public Set<String> getPropertyClassNames() {
-    return configurations.keySet();
+    return snapshot.get().getSourceNames();
   }
 
   public Optional<Properties> getConfiguration(String name) {
-    return Optional.ofNullable(configurations.get(name));
+    return snapshot.get().getConfiguration(name);
+  }
+
+  public ConfigurationSnapshot getSnapshot() {
+    return snapshot.get();
   }
 
   public void loadAllProperties() {
-    var classPathRootURL = PropertiesRepository.class.getResource("/");
-    if (classPathRootURL != null) {
-      var classPathRootFile = classPathRootURL.getFile();
-      var root = new File(classPathRootFile);
-      var children = root.listFiles();
-      if (root.isDirectory() && children != null) {
-        Arrays.stream(children).forEach(child -> loadProperties(child.getName()));
-      }
+    load();
+  }
+
+  private void load() {
+    if (compiled != null) {
+      snapshot.set(compiled);
+      return;
+    }
+    sources.forEach(ConfigSource::load);
+    var sourceNames = new HashSet<String>();
+    sources.forEach(source -> sourceNames.addAll(source.getSourceNames()));
+    var configurations = new HashMap<String, Properties>();
+    for (var sourceName : sourceNames) {
+      configurations.put(sourceName, merge(sourceName));
+    }
+    snapshot.set(ConfigurationSnapshot.of(configurations));
+  }
+
+  private Properties merge(String sourceName) {
+    var merged = new Properties();
+    for (var source : sources) {
+      source.getConfiguration(sourceName).ifPresent(merged::putAll);
     }
+    return merged;
+  }
+
+  private boolean isDefined(String sourceName) {
+    return sources.stream().anyMatch(source -> source.getSourceNames().contains(sourceName));
   }
 
-  private void loadProperties(String configName) {
-    Properties properties = new Properties();
+  /**
+   * Registers a listener, which gets notified on configuration changes once the repository
+   * watches the configuration files.
+   *
+   * @param listener The configuration change listener.
+   */
+  public void addChangeListener(ConfigurationChangeListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Starts watching the configuration files. The changed files are parsed on the watcher thread,
+   * and a new configuration snapshot gets published, before the change listeners are notified.
+   */
+  public synchronized void watch() {
+    if (watcher != null) {
+      return;
+    }
+    if (compiled != null) {
+      LOG.warn("The compiled configuration snapshot is read-only and cannot be watched.");
+      return;
+    }
+    var directories = sources.stream()
+        .flatMap(source -> source.getWatchedDirectories().stream())
+        .distinct()
+        .toList();
     try {
-      var resource = getClass().getClassLoader().getResource(configName);
-      if (resource != null) {
-        var file = new File(resource.getFile());
-        if (file.exists() && file.isFile()) {
-          var resourceAsStream = getClass().getResourceAsStream("/" + file.getName());
-          properties.load(resourceAsStream);
-          configurations.put(configName.replace(".properties", ""), properties);
-        }
+      watcher = new PropertiesWatcher(directories, this::reload);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (watcher != null) {
+      watcher.close();
+      watcher = null;
+    }
+  }
+
+  void reload(Set<Path> files) {
+    var affected = new HashSet<String>();
+    for (var file : files) {
+      for (var source : sources) {
+        source.reload(file).ifPresent(affected::add);
+      }
+    }
+    var updated = new HashMap<String, Properties>();
+    var removed = new HashSet<String>();
+    for (var sourceName : affected) {
+      if (isDefined(sourceName)) {
+        updated.put(sourceName, merge(sourceName));
+      } else {
+        removed.add(sourceName);
+      }
+    }
+    ConfigurationSnapshot previous;
+    ConfigurationSnapshot next;
+    do {
+      previous = snapshot.get();
+      next = previous.with(updated, removed);
+    } while (!snapshot.compareAndSet(previous, next));
+
+    for (var sourceName : affected) {
+      var changedKeys = next.changedKeys(previous, sourceName);
+      if (!changedKeys.isEmpty()) {
+        fire(new ConfigurationChange(sourceName, Set.copyOf(changedKeys), next));
+      }
+    }
+  }
+
+  private void fire(ConfigurationChange change) {
+    for (var listener : listeners) {
+      try {
+        listener.onChange(change);
+      } catch (RuntimeException e) {
+        LOG.error("Configuration change listener failed for source={} Reason={}",
+            change.source(), e.getMessage());
       }
-    } catch (IOException ex) {
-      throw new RuntimeException(ex);
     }
   }
 }
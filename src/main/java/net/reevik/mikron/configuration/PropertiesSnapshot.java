@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.reevik.mikron.string.PrefixTrie;
+
+/**
+ * Configuration snapshot of the merged {@link Properties} of the configuration sources. The names
+ * of the configuration sources, and lazily the keys within a configuration source, are indexed in
+ * prefix tries, so that looking up the instance configurations of a managed instance, or the keys
+ * under a prefix, doesn't scan all sources or keys.
+ */
+final class PropertiesSnapshot implements ConfigurationSnapshot {
+
+  static final ConfigurationSnapshot EMPTY = new PropertiesSnapshot(Map.of());
+
+  private final Map<String, Properties> configurations;
+  private final PrefixTrie<Properties> sourceIndex = new PrefixTrie<>();
+  private final Map<String, PrefixTrie<String>> keyIndexes = new ConcurrentHashMap<>();
+  private final PlaceholderResolver resolver = new PlaceholderResolver(this);
+  private final SourceValueIndex valueIndex = new SourceValueIndex(this);
+
+  PropertiesSnapshot(Map<String, Properties> configurations) {
+    this.configurations = Map.copyOf(configurations);
+    this.configurations.forEach(sourceIndex::put);
+  }
+
+  @Override
+  public Set<String> getSourceNames() {
+    return configurations.keySet();
+  }
+
+  @Override
+  public Optional<Properties> getConfiguration(String name) {
+    return Optional.ofNullable(configurations.get(name));
+  }
+
+  @Override
+  public String getValue(String source, String key) {
+    var configuration = configurations.get(source);
+    return configuration == null ? null : configuration.getProperty(key);
+  }
+
+  @Override
+  public String getResolvedValue(String source, String key) {
+    return resolver.resolve(source, key);
+  }
+
+  @Override
+  public Set<String> getSourceNamesWithValue(String key, String value) {
+    return valueIndex.getSourceNames(key, value);
+  }
+
+  @Override
+  public Set<String> getInstanceSourceNames(String componentName) {
+    var names = new LinkedHashSet<String>();
+    if (sourceIndex.containsKey(componentName)) {
+      names.add(componentName);
+    }
+    sourceIndex.forEachWithPrefix(componentName + INSTANCE_SEPARATOR,
+        (name, configuration) -> names.add(name));
+    return names;
+  }
+
+  @Override
+  public Set<String> getKeysWithPrefix(String source, String prefix) {
+    var configuration = configurations.get(source);
+    if (configuration == null) {
+      return Set.of();
+    }
+    var keyIndex = keyIndexes.computeIfAbsent(source, name -> index(configuration));
+    return keyIndex.withPrefix(prefix).keySet();
+  }
+
+  private PrefixTrie<String> index(Properties configuration) {
+    var trie = new PrefixTrie<String>();
+    for (var key : configuration.stringPropertyNames()) {
+      trie.put(key, configuration.getProperty(key));
+    }
+    return trie;
+  }
+
+  @Override
+  public ConfigurationSnapshot with(Map<String, Properties> updated, Collection<String> removed) {
+    var next = new HashMap<>(configurations);
+    removed.forEach(next::remove);
+    next.putAll(updated);
+    return new PropertiesSnapshot(next);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the configuration directories for changed files on a daemon thread. The
+ * file system events arriving within a short period are coalesced, so that editors writing a
+ * file in multiple steps trigger a single reload.
+ */
+class PropertiesWatcher implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PropertiesWatcher.class);
+  private static final long COALESCE_MILLIS = 50;
+
+  private final WatchService watchService;
+  private final Consumer<Set<Path>> onChange;
+  private final Thread thread;
+
+  PropertiesWatcher(Collection<Path> directories, Consumer<Set<Path>> onChange)
+      throws IOException {
+    this.watchService = FileSystems.getDefault().newWatchService();
+    this.onChange = onChange;
+    for (var directory : directories) {
+      directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    }
+    this.thread = Thread.ofPlatform()
+        .name("mikron-properties-watcher")
+        .daemon(true)
+        .start(this::watch);
+  }
+
+  private void watch() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        var changed = new HashSet<Path>();
+        collect(watchService.take(), changed);
+        WatchKey next;
+        while ((next = watchService.poll(COALESCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+          collect(next, changed);
+        }
+        if (!changed.isEmpty()) {
+          notify(changed);
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      LOG.debug("Stopped watching the configuration directories.");
+    }
+  }
+
+  private void collect(WatchKey key, Set<Path> changed) {
+    var directory = (Path) key.watchable();
+    for (var event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        LOG.warn("Configuration changes in {} might have been lost.", directory);
+        continue;
+      }
+      changed.add(directory.resolve((Path) event.context()));
+    }
+    key.reset();
+  }
+
+  private void notify(Set<Path> changed) {
+    try {
+      onChange.accept(changed);
+    } catch (RuntimeException e) {
+      LOG.error("Cannot reload the configuration files={} Reason={}", changed, e.getMessage());
+    }
+  }
+
+  @Override
+  public void close() {
+    thread.interrupt();
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOG.warn("Cannot close the configuration watch service. Reason={}", e.getMessage());
+    }
+  }
+}
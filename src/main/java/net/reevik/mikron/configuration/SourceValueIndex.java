@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index of a configuration snapshot from the configuration values to the names of the
+ * configuration sources, which have them. The index of a key is built on its first look-up by a
+ * single pass over the sources of the snapshot, and then shared by all look-ups of the key.
+ */
+final class SourceValueIndex {
+
+  private final ConfigurationSnapshot snapshot;
+  private final Map<String, Map<String, Set<String>>> index = new ConcurrentHashMap<>();
+
+  SourceValueIndex(ConfigurationSnapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  Set<String> getSourceNames(String key, String value) {
+    return index.computeIfAbsent(key, this::indexOf).getOrDefault(value, Set.of());
+  }
+
+  private Map<String, Set<String>> indexOf(String key) {
+    var sourcesByValue = new HashMap<String, Set<String>>();
+    for (var sourceName : snapshot.getSourceNames()) {
+      var value = snapshot.getResolvedValue(sourceName, key);
+      if (value != null) {
+        sourcesByValue.computeIfAbsent(value, v -> new HashSet<>()).add(sourceName);
+      }
+    }
+    sourcesByValue.replaceAll((value, sourceNames) -> Set.copyOf(sourceNames));
+    return Map.copyOf(sourcesByValue);
+  }
+}
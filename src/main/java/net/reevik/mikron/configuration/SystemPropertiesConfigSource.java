@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import net.reevik.mikron.string.PrefixTrie;
+
+/**
+ * Configuration source which overrides the configuration values by the system properties. A
+ * system property in the form of "mikron.&lt;source name&gt;.&lt;key&gt;" overrides the key in
+ * the configuration source, e.g., "-Dmikron.ManagedConfiguration.config.str=value".
+ */
+public class SystemPropertiesConfigSource implements ConfigSource {
+
+  static final String PREFIX = "mikron.";
+
+  private volatile PrefixTrie<String> properties = new PrefixTrie<>();
+
+  @Override
+  public int getOrdinal() {
+    return SYSTEM_PROPERTIES_ORDINAL;
+  }
+
+  @Override
+  public void load() {
+    var trie = new PrefixTrie<String>();
+    var systemProperties = System.getProperties();
+    for (var name : systemProperties.stringPropertyNames()) {
+      if (name.startsWith(PREFIX)) {
+        trie.put(name, systemProperties.getProperty(name));
+      }
+    }
+    properties = trie;
+  }
+
+  @Override
+  public Set<String> getSourceNames() {
+    return Set.of();
+  }
+
+  @Override
+  public Optional<Properties> getConfiguration(String sourceName) {
+    var prefix = PREFIX + sourceName + ".";
+    var configuration = new Properties();
+    properties.forEachWithPrefix(prefix,
+        (name, value) -> configuration.setProperty(name.substring(prefix.length()), value));
+    return configuration.isEmpty() ? Optional.empty() : Optional.of(configuration);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Service provider interface for third-party conversions, which are used by the
+ * {@link DefaultTypeConverter}. The providers are registered in
+ * {@code META-INF/services/net.reevik.mikron.configuration.TypeConverterProvider} and discovered
+ * through {@link java.util.ServiceLoader} once the {@link ConverterRegistry} is created.
+ */
+public interface TypeConverterProvider {
+
+  /**
+   * Returns the conversion functions by the target types, the provider supports. The conversions
+   * provided override the built-in ones for the same target type.
+   *
+   * @return Conversion functions from the configuration value to the target type.
+   */
+  Map<Class<?>, Function<String, ?>> getConversions();
+}
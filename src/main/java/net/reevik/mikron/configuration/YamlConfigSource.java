@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Configuration source of the YAML files in the classpath roots. The nested mappings are flattened
+ * into dot-separated keys, and the sequence items into indexed keys, e.g., "hosts[0]". The source
+ * supports the block mappings and sequences of scalars, and the flow sequences of scalars, which
+ * covers the configuration files, but not the complete YAML syntax, e.g., anchors or multi-line
+ * scalars.
+ */
+public class YamlConfigSource extends FileConfigSource {
+
+  public YamlConfigSource(List<Path> roots) {
+    super(roots, ".yml", ".yaml");
+  }
+
+  @Override
+  public int getOrdinal() {
+    return YAML_ORDINAL;
+  }
+
+  @Override
+  protected Properties parse(InputStream inputStream) throws IOException {
+    var properties = new Properties();
+    var parents = new ArrayDeque<Parent>();
+    var sequenceIndexes = new HashMap<String, Integer>();
+    var lines = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+    for (var line : lines) {
+      var content = stripComment(line).strip();
+      if (content.isEmpty() || content.equals("---")) {
+        continue;
+      }
+      var indent = line.indexOf(content.charAt(0));
+      if (content.startsWith("- ") || content.equals("-")) {
+        while (!parents.isEmpty() && parents.peek().indent() > indent) {
+          parents.pop();
+        }
+        var parent = parents.isEmpty() ? "" : parents.peek().path();
+        var index = sequenceIndexes.merge(parent, 1, Integer::sum) - 1;
+        properties.setProperty(parent + "[" + index + "]", unquote(content.substring(1).strip()));
+        continue;
+      }
+      while (!parents.isEmpty() && parents.peek().indent() >= indent) {
+        parents.pop();
+      }
+      var separator = findSeparator(content);
+      if (separator < 0) {
+        throw new IOException("Invalid YAML line: " + line);
+      }
+      var key = unquote(content.substring(0, separator).strip());
+      var value = content.substring(separator + 1).strip();
+      var path = parents.isEmpty() ? key : parents.peek().path() + "." + key;
+      if (value.isEmpty()) {
+        parents.push(new Parent(indent, path));
+      } else if (value.startsWith("[") && value.endsWith("]")) {
+        var items = value.substring(1, value.length() - 1).split(",");
+        for (int i = 0; i < items.length; i++) {
+          if (!items[i].isBlank()) {
+            properties.setProperty(path + "[" + i + "]", unquote(items[i].strip()));
+          }
+        }
+      } else {
+        properties.setProperty(path, unquote(value));
+      }
+    }
+    return properties;
+  }
+
+  private int findSeparator(String content) {
+    var separator = content.indexOf(": ");
+    return separator >= 0 ? separator : (content.endsWith(":") ? content.length() - 1 : -1);
+  }
+
+  private String stripComment(String line) {
+    var comment = line.indexOf(" #");
+    if (line.stripLeading().startsWith("#")) {
+      return "";
+    }
+    return comment >= 0 ? line.substring(0, comment) : line;
+  }
+
+  private String unquote(String value) {
+    if (value.length() >= 2 && (value.startsWith("\"") && value.endsWith("\"")
+        || value.startsWith("'") && value.endsWith("'"))) {
+      return value.substring(1, value.length() - 1);
+    }
+    return value;
+  }
+
+  private record Parent(int indent, String path) {
+
+  }
+}
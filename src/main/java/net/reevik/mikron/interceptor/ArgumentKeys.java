@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.util.Arrays;
+
+/**
+ * Builds the keys of the calls from their arguments. The keys of the calls with up to three
+ * arguments are the argument itself or a small tuple, so that the arguments array isn't copied
+ * nor hashed by varargs.
+ */
+final class ArgumentKeys {
+
+  private static final Object NO_ARGUMENTS = new Object();
+  private static final Object NULL = new Object();
+
+  private ArgumentKeys() {
+  }
+
+  static Object of(Object[] arguments) {
+    return switch (arguments.length) {
+      case 0 -> NO_ARGUMENTS;
+      case 1 -> arguments[0] == null ? NULL : arguments[0];
+      case 2 -> new Key2(arguments[0], arguments[1]);
+      case 3 -> new Key3(arguments[0], arguments[1], arguments[2]);
+      default -> Arrays.asList(arguments.clone());
+    };
+  }
+
+  private record Key2(Object first, Object second) {
+
+  }
+
+  private record Key3(Object first, Object second, Object third) {
+
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+/**
+ * Snapshot of the metrics of a {@link net.reevik.mikron.annotation.Batched} method, whose wait
+ * times, i.e., the times from the calls until their batches are dispatched, are given in
+ * nanoseconds.
+ *
+ * @param name          The name of the batcher.
+ * @param batches       The number of the batches dispatched.
+ * @param calls         The number of the calls batched.
+ * @param meanBatchSize The mean number of the calls in a batch.
+ * @param maxBatchSize  The maximum number of the calls in a batch.
+ * @param p50Wait       The median wait time.
+ * @param p99Wait       The 99th percentile of the wait times.
+ * @param maxWait       The maximum wait time.
+ */
+public record BatchSnapshot(String name, long batches, long calls, double meanBatchSize,
+                            long maxBatchSize, long p50Wait, long p99Wait, long maxWait) {
+
+  static BatchSnapshot of(String name, LatencyHistogram.Snapshot sizes,
+      LatencyHistogram.Snapshot waits) {
+    return new BatchSnapshot(name, sizes.getCount(), waits.getCount(), sizes.getMean(),
+        sizes.getMax(), waits.getValueAtQuantile(0.5), waits.getValueAtQuantile(0.99),
+        waits.getMax());
+  }
+}
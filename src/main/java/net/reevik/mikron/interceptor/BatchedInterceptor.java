@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.reevik.mikron.annotation.Batched;
+import net.reevik.mikron.ioc.IllegalManagedTypeException;
+import net.reevik.mikron.string.Str;
+
+/**
+ * Interceptor of the {@link Batched} methods, which collects their calls into batches per managed
+ * instance, and dispatches them to the bulk methods. The window of a batch is timed by a virtual
+ * thread, which is started with its first call, and the batch is dispatched by either that thread
+ * or the call, which fills it up. The results are fanned out to the futures of the calls, which
+ * are shared by the calls with the same key.
+ */
+public final class BatchedInterceptor implements MethodInterceptor {
+
+  private final Function<String, String> settings;
+  private final Map<Method, MethodBatcher> batchers = new ConcurrentHashMap<>();
+  private final Map<String, BatchMetrics> metrics = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the interceptor.
+   *
+   * @param settings Returns the configuration value of a key, e.g.,
+   *                 "mikron.batch.&lt;name&gt;.window", or null if it isn't configured.
+   */
+  public BatchedInterceptor(Function<String, String> settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public MethodInterceptor forMethod(Method method) {
+    var batched = method.getAnnotation(Batched.class);
+    if (batched == null) {
+      return (invocation, target, arguments) -> invocation.proceed(target, arguments);
+    }
+    if (method.getParameterCount() != 1) {
+      throw new IllegalManagedTypeException("@Batched methods must take a single key: " + method);
+    }
+    if (method.getReturnType().isPrimitive()) {
+      throw new IllegalManagedTypeException("@Batched methods must not return a primitive type, "
+          + "since the keys missing in the results of the bulk method resolve to null: " + method);
+    }
+    return batchers.computeIfAbsent(method, key -> {
+      var name = Str.isEmpty(batched.name())
+          ? method.getDeclaringClass().getName() + "#" + method.getName() : batched.name();
+      return new MethodBatcher(metrics.computeIfAbsent(name, BatchMetrics::new),
+          findBulkMethod(method, batched.value()),
+          CompletionStage.class.isAssignableFrom(method.getReturnType()),
+          (int) getSetting(name, "maxSize", batched.maxSize()),
+          TimeUnit.MILLISECONDS.toNanos(getSetting(name, "window", batched.window())));
+    });
+  }
+
+  private static MethodHandle findBulkMethod(Method method, String bulkMethodName) {
+    var type = method.getDeclaringClass();
+    var bulkMethod = Stream.concat(Stream.of(type.getDeclaredMethods()),
+            Stream.of(type.getMethods()))
+        .filter(candidate -> candidate.getName().equals(bulkMethodName))
+        .filter(candidate -> candidate.getParameterCount() == 1)
+        .filter(candidate -> candidate.getParameterTypes()[0].isAssignableFrom(List.class))
+        .filter(candidate -> Map.class.isAssignableFrom(candidate.getReturnType()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalManagedTypeException("No bulk method " + bulkMethodName
+            + "(List) returning a Map found for the @Batched method: " + method));
+    try {
+      bulkMethod.setAccessible(true);
+      return MethodHandles.lookup().unreflect(bulkMethod)
+          .asType(MethodType.methodType(Object.class, Object.class, List.class));
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new IllegalManagedTypeException("Cannot access the bulk method: " + bulkMethod);
+    }
+  }
+
+  private long getSetting(String batcherName, String key, long defaultValue) {
+    var value = settings.apply("mikron.batch." + batcherName + "." + key);
+    return value == null ? defaultValue : Long.parseLong(value.trim());
+  }
+
+  @Override
+  public Object intercept(Invocation invocation, Object target, Object[] arguments)
+      throws Throwable {
+    return forMethod(invocation.getMethod()).intercept(invocation, target, arguments);
+  }
+
+  /**
+   * Returns the snapshots of the metrics of the batchers by their names. The methods sharing a
+   * name are batched separately, but share their metrics.
+   *
+   * @return The snapshots.
+   */
+  public Map<String, BatchSnapshot> getSnapshots() {
+    return metrics.values().stream()
+        .map(BatchMetrics::snapshot)
+        .collect(Collectors.toMap(BatchSnapshot::name, snapshot -> snapshot, (a, b) -> a,
+            TreeMap::new));
+  }
+
+  private static final class MethodBatcher implements MethodInterceptor {
+
+    private final BatchMetrics metrics;
+    private final MethodHandle bulkMethod;
+    private final boolean returnsStage;
+    private final int maxSize;
+    private final long windowNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, Batch> pending = new IdentityHashMap<>();
+
+    private MethodBatcher(BatchMetrics metrics, MethodHandle bulkMethod, boolean returnsStage,
+        int maxSize, long windowNanos) {
+      this.metrics = metrics;
+      this.bulkMethod = bulkMethod;
+      this.returnsStage = returnsStage;
+      this.maxSize = Math.max(maxSize, 1);
+      this.windowNanos = windowNanos;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation, Object target, Object[] arguments)
+        throws Throwable {
+      CompletableFuture<Object> future;
+      Batch full = null;
+      lock.lock();
+      try {
+        var batch = pending.get(target);
+        if (batch == null) {
+          batch = new Batch(target, maxSize);
+          pending.put(target, batch);
+          var window = batch;
+          Thread.ofVirtual().name("mikron-batch").start(() -> dispatchAfterWindow(window));
+        }
+        future = batch.add(arguments[0]);
+        if (batch.calls == maxSize) {
+          pending.remove(target);
+          full = batch;
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (full != null) {
+        dispatch(full);
+      }
+      return returnsStage ? future : await(future);
+    }
+
+    private void dispatchAfterWindow(Batch batch) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(windowNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      lock.lock();
+      try {
+        if (!pending.remove(batch.target, batch)) {
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+      var dispatchedAt = System.nanoTime();
+      metrics.sizes.record(batch.calls);
+      for (int i = 0; i < batch.calls; i++) {
+        metrics.waits.record(dispatchedAt - batch.calledAt[i]);
+      }
+      try {
+        var results = (Map<?, ?>) bulkMethod.invoke(batch.target,
+            new ArrayList<>(batch.futures.keySet()));
+        batch.futures.forEach((key, future) ->
+            future.complete(results == null ? null : results.get(key)));
+      } catch (Throwable e) {
+        batch.futures.values().forEach(future -> future.completeExceptionally(e));
+      }
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  /**
+   * The batch sizes and the wait times of the methods sharing a batcher name.
+   */
+  private record BatchMetrics(String name, LatencyHistogram sizes, LatencyHistogram waits) {
+
+    private BatchMetrics(String name) {
+      this(name, new LatencyHistogram(), new LatencyHistogram());
+    }
+
+    private BatchSnapshot snapshot() {
+      return BatchSnapshot.of(name, sizes.snapshot(), waits.snapshot());
+    }
+  }
+
+  /**
+   * The calls collected for a managed instance, which is guarded by the lock of the batcher until
+   * it is dispatched.
+   */
+  private static final class Batch {
+
+    private final Object target;
+    private final Map<Object, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+    private final long[] calledAt;
+    private int calls;
+
+    private Batch(Object target, int maxSize) {
+      this.target = target;
+      this.calledAt = new long[maxSize];
+    }
+
+    private CompletableFuture<Object> add(Object key) {
+      calledAt[calls++] = System.nanoTime();
+      return futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+  }
+}
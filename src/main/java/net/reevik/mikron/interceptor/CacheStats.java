@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+/**
+ * Statistics of a {@link net.reevik.mikron.annotation.Cached} method.
+ *
+ * @param name        The name of the cache.
+ * @param hits        The number of the calls, whose results are found in the cache.
+ * @param misses      The number of the calls, whose results aren't found in the cache.
+ * @param evictions   The number of the entries evicted, since the cache is full.
+ * @param size        The number of the entries.
+ * @param maximumSize The maximum number of the entries.
+ */
+public record CacheStats(String name, long hits, long misses, long evictions, long size,
+                         long maximumSize) {
+
+  CacheStats merge(CacheStats other) {
+    return new CacheStats(name, hits + other.hits, misses + other.misses,
+        evictions + other.evictions, size + other.size, Math.max(maximumSize, other.maximumSize));
+  }
+
+  public double hitRate() {
+    var requests = hits + misses;
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.reevik.mikron.annotation.Cached;
+import net.reevik.mikron.string.Str;
+
+/**
+ * Interceptor of the {@link Cached} methods, which returns the results cached by the arguments
+ * of the calls. Every managed instance has its own cache per method, so the managed instances of
+ * a type, or the methods sharing a cache name, don't see each other's results. The name of a
+ * cache is only used to look up its configuration and to report its statistics. The keys of the
+ * methods with up to three parameters are built from the arguments directly, i.e., the argument
+ * itself or a small tuple, instead of copying the arguments array. The failed calls aren't
+ * cached.
+ */
+public final class CachedInterceptor implements MethodInterceptor {
+
+  private static final Object NULL = new Object();
+
+  private final Function<String, String> settings;
+  private final Map<Method, MethodCache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the interceptor.
+   *
+   * @param settings Returns the configuration value of a key, e.g.,
+   *                 "mikron.cache.&lt;name&gt;.maximumSize", or null if it isn't configured.
+   */
+  public CachedInterceptor(Function<String, String> settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public MethodInterceptor forMethod(Method method) {
+    var cached = method.getAnnotation(Cached.class);
+    if (cached == null) {
+      return (invocation, target, arguments) -> invocation.proceed(target, arguments);
+    }
+    return caches.computeIfAbsent(method, key -> {
+      var name = Str.isEmpty(cached.name())
+          ? method.getDeclaringClass().getName() + "#" + method.getName() : cached.name();
+      return new MethodCache(name, getSetting(name, "maximumSize", cached.maximumSize()),
+          getSetting(name, "ttl", cached.ttl()));
+    });
+  }
+
+  private long getSetting(String cacheName, String key, long defaultValue) {
+    var value = settings.apply("mikron.cache." + cacheName + "." + key);
+    return value == null ? defaultValue : Long.parseLong(value.trim());
+  }
+
+  @Override
+  public Object intercept(Invocation invocation, Object target, Object[] arguments)
+      throws Throwable {
+    return forMethod(invocation.getMethod()).intercept(invocation, target, arguments);
+  }
+
+  /**
+   * Returns the statistics of the caches by their names, which are summed up over the managed
+   * instances and the methods sharing a name.
+   *
+   * @return The statistics.
+   */
+  public Map<String, CacheStats> getStats() {
+    return caches.values().stream()
+        .flatMap(methodCache -> methodCache.caches.values().stream())
+        .map(TinyLfuCache::stats)
+        .collect(Collectors.toMap(CacheStats::name, stats -> stats, CacheStats::merge,
+            TreeMap::new));
+  }
+
+  private static final class MethodCache implements MethodInterceptor {
+
+    private final String name;
+    private final long maximumSize;
+    private final long ttl;
+    private final Map<InstanceKey, TinyLfuCache> caches = new ConcurrentHashMap<>();
+
+    private MethodCache(String name, long maximumSize, long ttl) {
+      this.name = name;
+      this.maximumSize = maximumSize;
+      this.ttl = ttl;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation, Object target, Object[] arguments)
+        throws Throwable {
+      var instanceKey = new InstanceKey(target);
+      var cache = caches.get(instanceKey);
+      if (cache == null) {
+        cache = caches.computeIfAbsent(instanceKey,
+            key -> new TinyLfuCache(name, maximumSize, ttl));
+      }
+      var key = ArgumentKeys.of(arguments);
+      var cached = cache.get(key);
+      if (cached != null) {
+        return cached == NULL ? null : cached;
+      }
+      var result = invocation.proceed(target, arguments);
+      cache.put(key, result == null ? NULL : result);
+      return result;
+    }
+  }
+
+  /**
+   * Key of a managed instance by its identity.
+   */
+  private record InstanceKey(Object target) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof InstanceKey key && target == key.target;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(target);
+    }
+  }
+}
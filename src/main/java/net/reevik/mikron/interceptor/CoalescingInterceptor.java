@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Interceptor of the {@link net.reevik.mikron.annotation.Coalesce} methods. The first call with
+ * some arguments registers its future in a concurrent map, and the identical calls, which find it
+ * there, wait for the future instead of calling the method. The future is removed once the call
+ * completes, or if the method returns a {@link CompletionStage}, once the stage completes, which is
+ * then shared by the identical calls. The calls wait by parking, so they don't pin the virtual
+ * threads.
+ */
+public final class CoalescingInterceptor implements MethodInterceptor {
+
+  private final ConcurrentHashMap<CallKey, CompletableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+  private final LongAdder coalesced = new LongAdder();
+
+  @Override
+  public Object intercept(Invocation invocation, Object target, Object[] arguments)
+      throws Throwable {
+    var key = new CallKey(invocation, target, ArgumentKeys.of(arguments));
+    var future = new CompletableFuture<Object>();
+    var leader = inFlight.putIfAbsent(key, future);
+    if (leader != null) {
+      coalesced.increment();
+      return await(leader);
+    }
+    var completesLater = false;
+    try {
+      var result = invocation.proceed(target, arguments);
+      future.complete(result);
+      if (result instanceof CompletionStage<?> stage) {
+        completesLater = true;
+        stage.whenComplete((value, error) -> inFlight.remove(key, future));
+      }
+      return result;
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      if (!completesLater) {
+        inFlight.remove(key, future);
+      }
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> future) throws Throwable {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Returns the number of the calls, which have shared the result of an identical call in flight.
+   *
+   * @return The number of the coalesced calls.
+   */
+  public long getCoalescedCalls() {
+    return coalesced.sum();
+  }
+
+  /**
+   * Key of a call in flight, which identifies the method by its invocation chain, and the managed
+   * instance by its identity.
+   */
+  private record CallKey(Invocation invocation, Object target, Object arguments) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof CallKey key && invocation == key.invocation
+          && target == key.target && arguments.equals(key.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+      return (System.identityHashCode(invocation) * 31 + System.identityHashCode(target)) * 31
+          + arguments.hashCode();
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.lang.reflect.Method;
+
+/**
+ * The rest of the interceptor chain of a method, which is computed once per method and shared by
+ * all of its calls, so it doesn't hold any state of a call.
+ */
+public interface Invocation {
+
+  /**
+   * Returns the method of the managed type, which is called, e.g., to read its annotations.
+   *
+   * @return The method implementation.
+   */
+  Method getMethod();
+
+  /**
+   * Proceeds with the next interceptor of the chain, or else with the method itself.
+   *
+   * @param target    The managed instance called.
+   * @param arguments The arguments of the call.
+   * @return The result of the call.
+   * @throws Throwable If the call fails.
+   */
+  Object proceed(Object target, Object[] arguments) throws Throwable;
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with log-linear buckets, i.e., 32 linear
+ * sub-buckets per power of two, which keeps the relative error of the percentiles below about
+ * 3%. The counts are striped by the threads recording, and the stripes are allocated once they
+ * are used first, so that the concurrent recordings don't contend, and recording doesn't
+ * allocate.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_MAGNITUDE = 40;
+  private static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS
+      + SUB_BUCKETS;
+  private static final int COUNT = BUCKETS;
+  private static final int SUM = BUCKETS + 1;
+  private static final int MAX = BUCKETS + 2;
+  private static final int STRIPES = Integer.highestOneBit(
+      Math.min(Runtime.getRuntime().availableProcessors(), 16) * 2 - 1);
+
+  private final AtomicReferenceArray<AtomicLongArray> stripes =
+      new AtomicReferenceArray<>(STRIPES);
+
+  /**
+   * Records the latency.
+   *
+   * @param nanos The latency in nanoseconds.
+   */
+  public void record(long nanos) {
+    var value = Math.max(nanos, 0);
+    var stripe = getStripe((int) Thread.currentThread().threadId() & (STRIPES - 1));
+    stripe.getAndIncrement(bucketOf(value));
+    stripe.getAndIncrement(COUNT);
+    stripe.getAndAdd(SUM, value);
+    var max = stripe.get(MAX);
+    while (value > max && !stripe.compareAndSet(MAX, max, value)) {
+      max = stripe.get(MAX);
+    }
+  }
+
+  private AtomicLongArray getStripe(int index) {
+    var stripe = stripes.getPlain(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS + 3));
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  static int bucketOf(long value) {
+    var magnitude = 63 - Long.numberOfLeadingZeros(value);
+    if (magnitude <= SUB_BUCKET_BITS) {
+      return (int) value;
+    }
+    if (magnitude > MAX_MAGNITUDE) {
+      return BUCKETS - 1;
+    }
+    var shift = magnitude - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+  }
+
+  static long upperBoundOf(int bucket) {
+    if (bucket < 2 * SUB_BUCKETS) {
+      return bucket;
+    }
+    var shift = bucket / SUB_BUCKETS - 1;
+    return ((long) (bucket % SUB_BUCKETS + SUB_BUCKETS + 1) << shift) - 1;
+  }
+
+  /**
+   * Takes a snapshot of the histogram by merging the stripes. The recordings, which are
+   * concurrent to the snapshot, may be partially included.
+   *
+   * @return The snapshot.
+   */
+  public Snapshot snapshot() {
+    var counts = new long[BUCKETS];
+    long count = 0;
+    long sum = 0;
+    long max = 0;
+    for (int i = 0; i < STRIPES; i++) {
+      var stripe = stripes.get(i);
+      if (stripe == null) {
+        continue;
+      }
+      for (int bucket = 0; bucket < BUCKETS; bucket++) {
+        counts[bucket] += stripe.get(bucket);
+      }
+      count += stripe.get(COUNT);
+      sum += stripe.get(SUM);
+      max = Math.max(max, stripe.get(MAX));
+    }
+    return new Snapshot(counts, count, sum, max);
+  }
+
+  /**
+   * A snapshot of the histogram.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    private Snapshot(long[] counts, long count, long sum, long max) {
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getMax() {
+      return max;
+    }
+
+    public double getMean() {
+      return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the latency, which the given ratio of the recordings haven't exceeded.
+     *
+     * @param quantile The ratio between 0 and 1, e.g., 0.99 for the 99th percentile.
+     * @return The latency in nanoseconds.
+     */
+    public long getValueAtQuantile(double quantile) {
+      var total = 0L;
+      for (var value : counts) {
+        total += value;
+      }
+      if (total == 0) {
+        return 0;
+      }
+      var rank = (long) Math.ceil(Math.min(Math.max(quantile, 0), 1) * total);
+      var seen = 0L;
+      for (int bucket = 0; bucket < counts.length; bucket++) {
+        seen += counts[bucket];
+        if (seen >= Math.max(rank, 1)) {
+          return Math.min(upperBoundOf(bucket), max);
+        }
+      }
+      return max;
+    }
+  }
+}
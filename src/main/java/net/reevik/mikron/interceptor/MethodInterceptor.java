@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.lang.reflect.Method;
+
+/**
+ * Interceptor of the method calls of managed instances, which applies a cross-cutting behavior,
+ * e.g., timing, tracing or caching, around the call. The interceptors are bound to the methods by
+ * {@link net.reevik.mikron.annotation.Intercepts}, and their chains are computed once per method,
+ * so that the same {@link Invocation} is passed to every call of the method.
+ */
+@FunctionalInterface
+public interface MethodInterceptor {
+
+  /**
+   * Returns the interceptor of the method, which is called once the chain of the method is
+   * computed, so that the interceptor can look up its state of the method once instead of on
+   * every call.
+   *
+   * @param method The method implementation intercepted.
+   * @return The interceptor of the method.
+   */
+  default MethodInterceptor forMethod(Method method) {
+    return this;
+  }
+
+  /**
+   * Intercepts the call of the method, and proceeds with the call by
+   * {@link Invocation#proceed(Object, Object[])}, unless it completes the call itself.
+   *
+   * @param invocation The rest of the interceptor chain of the method.
+   * @param target     The managed instance called.
+   * @param arguments  The arguments of the call.
+   * @return The result of the call.
+   * @throws Throwable If the call fails.
+   */
+  Object intercept(Invocation invocation, Object target, Object[] arguments) throws Throwable;
+}
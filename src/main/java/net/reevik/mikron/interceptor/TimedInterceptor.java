@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import net.reevik.mikron.reflection.Methods;
+
+/**
+ * Interceptor of the {@link net.reevik.mikron.annotation.Timed} methods, which records their
+ * calls, errors and latencies. The metrics of a method are looked up once its chain is computed,
+ * so that recording a call doesn't allocate. The methods are named by their declaring classes and
+ * signatures, e.g., "com.acme.ReportService#render(java.lang.String,int)", so that the overloads
+ * are recorded separately.
+ */
+public final class TimedInterceptor implements MethodInterceptor {
+
+  private final Map<String, MethodTimer> timers = new ConcurrentHashMap<>();
+
+  @Override
+  public MethodInterceptor forMethod(Method method) {
+    return timers.computeIfAbsent(Methods.getSignatureName(method), MethodTimer::new);
+  }
+
+  @Override
+  public Object intercept(Invocation invocation, Object target, Object[] arguments)
+      throws Throwable {
+    return forMethod(invocation.getMethod()).intercept(invocation, target, arguments);
+  }
+
+  /**
+   * Returns the snapshots of the metrics of the methods by their names.
+   *
+   * @return The snapshots.
+   */
+  public Map<String, TimerSnapshot> getSnapshots() {
+    return timers.values().stream()
+        .map(MethodTimer::snapshot)
+        .collect(Collectors.toMap(TimerSnapshot::name, snapshot -> snapshot, (a, b) -> a,
+            TreeMap::new));
+  }
+
+  /**
+   * Returns the snapshots of the metrics of the methods as a JSON array.
+   *
+   * @return The snapshots in JSON format.
+   */
+  public String toJson() {
+    return getSnapshots().values().stream()
+        .map(TimerSnapshot::toJson)
+        .collect(Collectors.joining(",", "[", "]"));
+  }
+
+  private static final class MethodTimer implements MethodInterceptor {
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    private MethodTimer(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation, Object target, Object[] arguments)
+        throws Throwable {
+      var startedAt = System.nanoTime();
+      try {
+        return invocation.proceed(target, arguments);
+      } catch (Throwable e) {
+        errors.increment();
+        throw e;
+      } finally {
+        histogram.record(System.nanoTime() - startedAt);
+      }
+    }
+
+    private TimerSnapshot snapshot() {
+      return TimerSnapshot.of(name, errors.sum(), histogram.snapshot());
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.util.Locale;
+
+/**
+ * Snapshot of the metrics of a {@link net.reevik.mikron.annotation.Timed} method, whose
+ * latencies are given in nanoseconds.
+ *
+ * @param name   The name of the method, i.e., the name of the managed type and the method name
+ *               separated by "#".
+ * @param calls  The number of the calls.
+ * @param errors The number of the calls, which have thrown an exception.
+ * @param mean   The mean latency.
+ * @param p50    The median latency.
+ * @param p90    The 90th percentile of the latencies.
+ * @param p99    The 99th percentile of the latencies.
+ * @param p999   The 99.9th percentile of the latencies.
+ * @param max    The maximum latency.
+ */
+public record TimerSnapshot(String name, long calls, long errors, double mean, long p50, long p90,
+                            long p99, long p999, long max) {
+
+  static TimerSnapshot of(String name, long errors, LatencyHistogram.Snapshot histogram) {
+    return new TimerSnapshot(name, histogram.getCount(), errors, histogram.getMean(),
+        histogram.getValueAtQuantile(0.5), histogram.getValueAtQuantile(0.9),
+        histogram.getValueAtQuantile(0.99), histogram.getValueAtQuantile(0.999),
+        histogram.getMax());
+  }
+
+  public String toJson() {
+    return String.format(Locale.ROOT, "{\"name\":\"%s\",\"calls\":%d,\"errors\":%d,"
+            + "\"meanNanos\":%.1f,\"p50Nanos\":%d,\"p90Nanos\":%d,\"p99Nanos\":%d,"
+            + "\"p999Nanos\":%d,\"maxNanos\":%d}", name.replace("\\", "\\\\")
+            .replace("\"", "\\\""), calls, errors, mean, p50, p90, p99, p999, max);
+  }
+}
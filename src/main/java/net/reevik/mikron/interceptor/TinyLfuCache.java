@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.interceptor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent cache with the W-TinyLFU eviction policy: the new entries enter a small LRU window,
+ * and the ones leaving the window are admitted into the main segmented LRU only if they are
+ * accessed more frequently than the victim of the main segment, whose frequencies are estimated
+ * by a count-min sketch. The reads look the entries up without locking, and update the policy
+ * only if its lock is free, so that some accesses may be lost under contention. The entries
+ * expired are removed once they are read or evicted.
+ */
+final class TinyLfuCache {
+
+  private static final int WINDOW = 0;
+  private static final int PROBATION = 1;
+  private static final int PROTECTED = 2;
+
+  private final String name;
+  private final long maximumSize;
+  private final long windowMaximum;
+  private final long protectedMaximum;
+  private final long ttlNanos;
+  private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final FrequencySketch sketch;
+  private final AccessOrder window = new AccessOrder();
+  private final AccessOrder probation = new AccessOrder();
+  private final AccessOrder protectedSegment = new AccessOrder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  TinyLfuCache(String name, long maximumSize, long ttlMillis) {
+    this.name = name;
+    this.maximumSize = Math.max(maximumSize, 1);
+    this.windowMaximum = Math.max(this.maximumSize / 100, 1);
+    this.protectedMaximum = (this.maximumSize - windowMaximum) * 4 / 5;
+    this.ttlNanos = Math.max(ttlMillis, 0) * 1_000_000;
+    this.sketch = new FrequencySketch(this.maximumSize);
+  }
+
+  /**
+   * Returns the value of the key, or null if the key isn't cached or expired.
+   *
+   * @param key The key.
+   * @return The value or null.
+   */
+  Object get(Object key) {
+    var node = data.get(key);
+    if (node == null) {
+      misses.increment();
+      return null;
+    }
+    if (ttlNanos > 0 && System.nanoTime() - node.writtenAt > ttlNanos) {
+      misses.increment();
+      lock.lock();
+      try {
+        if (data.remove(key, node)) {
+          unlink(node);
+        }
+      } finally {
+        lock.unlock();
+      }
+      return null;
+    }
+    hits.increment();
+    if (lock.tryLock()) {
+      try {
+        if (node.queue >= 0) {
+          onAccess(node);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return node.value;
+  }
+
+  void put(Object key, Object value) {
+    lock.lock();
+    try {
+      var node = data.get(key);
+      if (node != null) {
+        node.value = value;
+        node.writtenAt = System.nanoTime();
+        onAccess(node);
+        return;
+      }
+      sketch.increment(key);
+      node = new Node(key, value);
+      data.put(key, node);
+      node.queue = WINDOW;
+      window.addLast(node);
+      evict();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void onAccess(Node node) {
+    sketch.increment(node.key);
+    switch (node.queue) {
+      case WINDOW -> window.moveToLast(node);
+      case PROBATION -> {
+        probation.remove(node);
+        node.queue = PROTECTED;
+        protectedSegment.addLast(node);
+        while (protectedSegment.size > protectedMaximum) {
+          var demoted = protectedSegment.removeFirst();
+          demoted.queue = PROBATION;
+          probation.addLast(demoted);
+        }
+      }
+      default -> protectedSegment.moveToLast(node);
+    }
+  }
+
+  private void evict() {
+    while (window.size > windowMaximum) {
+      var candidate = window.removeFirst();
+      candidate.queue = PROBATION;
+      probation.addLast(candidate);
+    }
+    while (window.size + probation.size + protectedSegment.size > maximumSize) {
+      var segment = probation.size > 0 ? probation : protectedSegment;
+      var victim = segment.first;
+      var candidate = probation.last;
+      var evicted = candidate == null || candidate == victim
+          || sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+      unlink(evicted);
+      data.remove(evicted.key, evicted);
+      evictions.increment();
+    }
+  }
+
+  private void unlink(Node node) {
+    switch (node.queue) {
+      case WINDOW -> window.remove(node);
+      case PROBATION -> probation.remove(node);
+      case PROTECTED -> protectedSegment.remove(node);
+      default -> {
+        return;
+      }
+    }
+    node.queue = -1;
+  }
+
+  CacheStats stats() {
+    return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), data.size(),
+        maximumSize);
+  }
+
+  private static final class Node {
+
+    private final Object key;
+    private volatile Object value;
+    private volatile long writtenAt = System.nanoTime();
+    private int queue;
+    private Node previous;
+    private Node next;
+
+    private Node(Object key, Object value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Intrusive doubly-linked list of the nodes in access order, which is guarded by the lock of
+   * the cache.
+   */
+  private static final class AccessOrder {
+
+    private Node first;
+    private Node last;
+    private long size;
+
+    private void addLast(Node node) {
+      node.previous = last;
+      node.next = null;
+      if (last == null) {
+        first = node;
+      } else {
+        last.next = node;
+      }
+      last = node;
+      size++;
+    }
+
+    private Node removeFirst() {
+      var node = first;
+      remove(node);
+      return node;
+    }
+
+    private void remove(Node node) {
+      if (node.previous == null) {
+        first = node.next;
+      } else {
+        node.previous.next = node.next;
+      }
+      if (node.next == null) {
+        last = node.previous;
+      } else {
+        node.next.previous = node.previous;
+      }
+      node.previous = null;
+      node.next = null;
+      size--;
+    }
+
+    private void moveToLast(Node node) {
+      if (node != last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+  }
+
+  /**
+   * Count-min sketch of 4-bit counters, which estimates the access frequencies of the keys, and
+   * halves all counters once the number of the increments reaches ten times the maximum size,
+   * so that the frequencies age.
+   */
+  private static final class FrequencySketch {
+
+    private static final long[] SEEDS = {0x97cb3127L, 0xab4d5a3fL, 0xc2b2ae3dL, 0x27d4eb2fL};
+
+    private final byte[][] table;
+    private final int mask;
+    private final long sampleSize;
+    private long additions;
+
+    private FrequencySketch(long maximumSize) {
+      var width = Integer.highestOneBit((int) Math.min(Math.max(maximumSize, 16), 1 << 24) * 2
+          - 1);
+      this.table = new byte[SEEDS.length][width];
+      this.mask = width - 1;
+      this.sampleSize = 10 * maximumSize;
+    }
+
+    private int frequency(Object key) {
+      var hash = spread(key.hashCode());
+      var frequency = Integer.MAX_VALUE;
+      for (int row = 0; row < SEEDS.length; row++) {
+        frequency = Math.min(frequency, table[row][index(hash, row)]);
+      }
+      return frequency;
+    }
+
+    private void increment(Object key) {
+      var hash = spread(key.hashCode());
+      for (int row = 0; row < SEEDS.length; row++) {
+        var index = index(hash, row);
+        if (table[row][index] < 15) {
+          table[row][index]++;
+        }
+      }
+      if (++additions >= sampleSize) {
+        for (var counters : table) {
+          for (int i = 0; i < counters.length; i++) {
+            counters[i] >>= 1;
+          }
+        }
+        additions /= 2;
+      }
+    }
+
+    private int index(int hash, int row) {
+      var mixed = (hash + SEEDS[row]) * SEEDS[row];
+      return (int) (mixed ^ mixed >>> 32) & mask;
+    }
+
+    private static int spread(int hash) {
+      var mixed = hash * 0x9e3779b9;
+      return mixed ^ mixed >>> 16;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The asynchronous initializations of the managed instances of a context, which run on virtual
+ * threads as one unit of work, similar to a structured task scope shutting down on failure: the
+ * first initialization failing or timing out cancels the others, and fails the whole unit.
+ */
+final class AsyncInitialization implements AutoCloseable {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final List<Future<?>> workers = new ArrayList<>();
+  private final List<CompletableFuture<Object>> results = new ArrayList<>();
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+  /**
+   * Submits an initialization, which either completes once the action returns, or if the action
+   * returns a {@link CompletionStage}, once the stage completes. The initializations submitted
+   * after the unit of work has failed are cancelled.
+   *
+   * @param instanceName  The name of the managed instance initialized.
+   * @param action        The initialization.
+   * @param timeoutMillis The time the initialization may take, or zero if unlimited.
+   */
+  void submit(String instanceName, Callable<?> action, long timeoutMillis) {
+    var result = new CompletableFuture<Object>();
+    if (timeoutMillis > 0) {
+      result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    result.whenComplete((value, failure) -> {
+      if (failure != null) {
+        fail(instanceName, failure);
+      }
+    });
+    synchronized (this) {
+      if (completion.isDone() && !completion.isCompletedExceptionally()) {
+        throw new IllegalStateException("The initialization of the managed instance="
+            + instanceName + " is submitted after the initialization has completed.");
+      }
+      if (completion.isDone()) {
+        result.cancel(true);
+        return;
+      }
+      results.add(result);
+      workers.add(executor.submit(() -> run(action, result)));
+    }
+  }
+
+  private void run(Callable<?> action, CompletableFuture<Object> result) {
+    CompletableFuture<?> stage = null;
+    try {
+      var value = action.call();
+      if (value instanceof CompletionStage<?> completionStage) {
+        stage = completionStage.toCompletableFuture();
+        value = stage.get();
+      }
+      result.complete(value);
+    } catch (InterruptedException e) {
+      if (stage != null) {
+        stage.cancel(true);
+      }
+      result.cancel(true);
+    } catch (ExecutionException e) {
+      result.completeExceptionally(e.getCause());
+    } catch (Throwable e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  private void fail(String instanceName, Throwable failure) {
+    var cause = failure instanceof CompletionException && failure.getCause() != null
+        ? failure.getCause() : failure;
+    var message = cause instanceof TimeoutException
+        ? "The initialization of the managed instance=" + instanceName + " timed out."
+        : "The initialization of the managed instance=" + instanceName + " failed.";
+    if (completion.completeExceptionally(new ApplicationInitializationException(message, cause))) {
+      cancelAll();
+    }
+  }
+
+  private synchronized void cancelAll() {
+    workers.forEach(worker -> worker.cancel(true));
+    results.forEach(result -> result.cancel(true));
+  }
+
+  /**
+   * Completes the unit of work once all initializations submitted so far have completed.
+   *
+   * @return The completion of the initializations.
+   */
+  synchronized CompletableFuture<Void> seal() {
+    CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+        .whenComplete((value, failure) -> {
+          if (failure == null) {
+            completion.complete(null);
+          }
+        });
+    return completion;
+  }
+
+  /**
+   * Waits until all initializations have completed.
+   *
+   * @throws ApplicationInitializationException If one of them has failed or timed out.
+   */
+  void await() {
+    try {
+      seal().join();
+    } catch (CompletionException | CancellationException e) {
+      if (e.getCause() instanceof ApplicationInitializationException failure) {
+        throw failure;
+      }
+      throw new ApplicationInitializationException("The initialization has failed.", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (completion.cancel(true)) {
+      cancelAll();
+    }
+    executor.shutdownNow();
+  }
+}
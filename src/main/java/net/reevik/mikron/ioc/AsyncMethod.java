@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import net.reevik.mikron.annotation.Async;
+import net.reevik.mikron.reflection.Methods;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link Async} method of a managed type, whose calls are submitted to the executor of the
+ * context.
+ *
+ * @param method  The method implementation.
+ * @param metrics The metrics of the method.
+ */
+record AsyncMethod(Method method, AsyncMethodMetrics metrics) {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncMethod.class);
+
+  static AsyncMethod of(Method method) {
+    var returnType = method.getReturnType();
+    if (returnType != void.class && !returnType.isAssignableFrom(CompletableFuture.class)) {
+      throw new IllegalManagedTypeException("@Async methods must return void, CompletableFuture, "
+          + "CompletionStage or Future: " + method);
+    }
+    method.setAccessible(true);
+    return new AsyncMethod(method, new AsyncMethodMetrics(Methods.getSignatureName(method)));
+  }
+
+  /**
+   * Submits the call to the executor.
+   *
+   * @param executor Supplies the executor of the context.
+   * @param target   The managed instance.
+   * @param args     The arguments of the call.
+   * @return The future of the result, or null if the method returns void.
+   */
+  Object submit(Supplier<Executor> executor, Object target, Object[] args) {
+    var result = new CompletableFuture<Object>();
+    var submittedAt = System.nanoTime();
+    metrics.recordSubmitted();
+    try {
+      executor.get().execute(() -> execute(target, args, result, submittedAt));
+    } catch (RejectedExecutionException e) {
+      metrics.recordCompleted(0, false);
+      result.completeExceptionally(e);
+    }
+    if (method.getReturnType() == void.class) {
+      result.whenComplete((value, failure) -> {
+        if (failure != null) {
+          LOG.warn("The asynchronous call of {} has failed.", metrics.getName(), failure);
+        }
+      });
+      return null;
+    }
+    return result;
+  }
+
+  private void execute(Object target, Object[] args, CompletableFuture<Object> result,
+      long submittedAt) {
+    var startedAt = System.nanoTime();
+    metrics.recordStarted(startedAt - submittedAt);
+    try {
+      var value = method.invoke(target, args);
+      if (value instanceof CompletionStage<?> stage) {
+        stage.whenComplete((stageValue, failure) -> complete(result, stageValue, failure,
+            startedAt));
+        return;
+      }
+      if (value instanceof Future<?> future) {
+        value = future.get();
+      }
+      complete(result, value, null, startedAt);
+    } catch (InvocationTargetException | ExecutionException e) {
+      complete(result, null, e.getCause(), startedAt);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      complete(result, null, e, startedAt);
+    } catch (Throwable e) {
+      complete(result, null, e, startedAt);
+    }
+  }
+
+  private void complete(CompletableFuture<Object> result, Object value, Throwable failure,
+      long startedAt) {
+    metrics.recordCompleted(System.nanoTime() - startedAt, failure == null);
+    if (failure == null) {
+      result.complete(value);
+    } else {
+      result.completeExceptionally(failure);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of an {@link net.reevik.mikron.annotation.Async} method, i.e., how many calls are
+ * submitted, completed and failed, and how long they have waited in the queue of the executor and
+ * taken to execute.
+ */
+public final class AsyncMethodMetrics {
+
+  private final String name;
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder queueNanos = new LongAdder();
+  private final LongAdder executionNanos = new LongAdder();
+
+  AsyncMethodMetrics(String name) {
+    this.name = name;
+  }
+
+  void recordSubmitted() {
+    submitted.increment();
+  }
+
+  void recordStarted(long queueTime) {
+    queueNanos.add(queueTime);
+  }
+
+  void recordCompleted(long executionTime, boolean successful) {
+    executionNanos.add(executionTime);
+    if (successful) {
+      completed.increment();
+    } else {
+      failed.increment();
+    }
+  }
+
+  /**
+   * Returns the name of the method, i.e., the name of the managed type and the method signature
+   * separated by "#", e.g., "com.acme.ReportService#render(java.lang.String,int)".
+   *
+   * @return The name of the method.
+   */
+  public String getName() {
+    return name;
+  }
+
+  public long getSubmitted() {
+    return submitted.sum();
+  }
+
+  public long getCompleted() {
+    return completed.sum();
+  }
+
+  public long getFailed() {
+    return failed.sum();
+  }
+
+  /**
+   * Returns the number of the calls submitted, which haven't completed yet, i.e., they are either
+   * queued or executing.
+   *
+   * @return The number of the pending calls.
+   */
+  public long getPending() {
+    return getSubmitted() - getCompleted() - getFailed();
+  }
+
+  public Duration getTotalQueueTime() {
+    return Duration.ofNanos(queueNanos.sum());
+  }
+
+  public Duration getTotalExecutionTime() {
+    return Duration.ofNanos(executionNanos.sum());
+  }
+
+  @Override
+  public String toString() {
+    return name + "[submitted=" + getSubmitted() + ", completed=" + getCompleted()
+        + ", failed=" + getFailed() + ", queueTime=" + getTotalQueueTime()
+        + ", executionTime=" + getTotalExecutionTime() + "]";
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+/**
+ * Thrown once the context is closed, if the clean-up of some managed instances have failed. The
+ * failures are added as suppressed exceptions.
+ */
+public final class CleanUpException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient ShutdownReport report;
+
+  public CleanUpException(ShutdownReport report) {
+    super("The clean-up of the managed instances has failed: " + report.failures().keySet());
+    this.report = report;
+    for (var failure : report.failures().values()) {
+      addSuppressed(failure);
+    }
+  }
+
+  public ShutdownReport getReport() {
+    return report;
+  }
+}
@@ -16,9 +16,7 @@
 package net.reevik.mikron.ioc;
 
 import java.lang.reflect.Field;
-import java.util.function.Predicate;
 import net.reevik.mikron.annotation.Wire;
-import net.reevik.mikron.configuration.PropertiesRepository;
 import net.reevik.mikron.string.Str;
 
 public class ComponentNameResolver {
@@ -37,24 +35,12 @@ public class ComponentNameResolver {
         if (Str.isEmpty(propertyFilter)) {
             return classKey;
         }
-        var filterArr = propertyFilter.split("=");
-        var filterName = filterArr[0];
-        var filterValue = filterArr[1];
-        var propRepo = context.getPropertiesRepository();
-        return propRepo.getPropertyClassNames().stream()
-            .filter(className -> className.startsWith(classKey))
-            .filter(hasFilteredProperty(filterName, filterValue, propRepo))
-            .findFirst()
+        var snapshot = context.getPropertiesRepository().getSnapshot();
+        return context.getConfigurationFilter(propertyFilter)
+            .findSource(snapshot, classKey)
             .orElse(classKey);
     }
 
-    private Predicate<String> hasFilteredProperty(String filterName, String filterValue,
-        PropertiesRepository propRepo) {
-        return className -> filterValue.equals(propRepo.getConfiguration(className)
-            .map(b -> b.get(filterName))
-            .orElse(null));
-    }
-
     private String getDependencyName() {
         var name = field.getAnnotation(Wire.class).name();
         return Str.isEmpty(name) ? field.getType().getName() : name;
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Set;
+import net.reevik.mikron.configuration.ConfigValue;
+import net.reevik.mikron.configuration.ConfigurationBinding;
+import net.reevik.mikron.configuration.ConfigurationObjectBinder;
+import net.reevik.mikron.configuration.ConfigurationSnapshot;
+import net.reevik.mikron.configuration.IConfigurationBinding;
+import net.reevik.mikron.configuration.TypeConverter;
+
+/**
+ * Configuration injection point on a field or a setter method annotated with
+ * {@link net.reevik.mikron.annotation.Configurable}. The configuration name and the reader, i.e.,
+ * the converter of a single configuration or the binder of a configuration group, are resolved
+ * once per injection point, and the instances are cached by the context per managed type. The
+ * setter methods are called through a method handle, which is also resolved once.
+ *
+ * @param member     The configurable field or setter method.
+ * @param setter     The method handle of the setter method, or null if the member is a field.
+ * @param configName The name of the configuration, or the key prefix of the configuration group.
+ * @param prefixed   Whether the member is bound to a configuration group.
+ * @param live       Whether the field is a {@link ConfigValue} handle, which is updated in place.
+ * @param reader     Reads the value of the member from the configuration source.
+ */
+record ConfigurableField(Member member, MethodHandle setter, String configName, boolean prefixed,
+                         boolean live, ConfigurationReader reader) {
+
+    private static final IConfigurationBinding BINDING = new ConfigurationBinding();
+    private static final MethodType SETTER_TYPE =
+        MethodType.methodType(void.class, Object.class, Object.class);
+
+    static ConfigurableField of(Field field, String configName, boolean live,
+        TypeConverter converter) {
+        return new ConfigurableField(field, null, configName, false, live,
+            scalarReader(configName, converter));
+    }
+
+    static ConfigurableField ofGroup(Field field, String prefix, boolean live, Type type,
+        ConfigurationObjectBinder binder) {
+        return new ConfigurableField(field, null, prefix, true, live,
+            groupReader(prefix, type, binder));
+    }
+
+    static ConfigurableField ofSetter(Method method, String configName, TypeConverter converter) {
+        return new ConfigurableField(method, toSetterHandle(method), configName, false, false,
+            scalarReader(configName, converter));
+    }
+
+    static ConfigurableField ofGroupSetter(Method method, String prefix,
+        ConfigurationObjectBinder binder) {
+        return new ConfigurableField(method, toSetterHandle(method), prefix, true, false,
+            groupReader(prefix, method.getGenericParameterTypes()[0], binder));
+    }
+
+    private static ConfigurationReader scalarReader(String configName, TypeConverter converter) {
+        return (snapshot, source) ->
+            converter.convert(snapshot.getResolvedValue(source, configName));
+    }
+
+    private static ConfigurationReader groupReader(String prefix, Type type,
+        ConfigurationObjectBinder binder) {
+        return (snapshot, source) -> binder.bind(snapshot, source, prefix, type);
+    }
+
+    private static MethodHandle toSetterHandle(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    void bind(Object instance, ConfigurationSnapshot snapshot, String source) {
+        apply(instance, read(snapshot, source));
+    }
+
+    Object read(ConfigurationSnapshot snapshot, String source) {
+        return reader.read(snapshot, source);
+    }
+
+    /**
+     * Assigns the value read to the member. A null value, i.e., the configuration is missing,
+     * leaves the value of a field or setter unchanged.
+     */
+    void apply(Object instance, Object value) {
+        if (setter != null) {
+            invokeSetter(instance, value);
+        } else if (!live) {
+            BINDING.bind((Field) member, instance, value);
+        } else {
+            updateConfigValue(instance, value);
+        }
+    }
+
+    private void invokeSetter(Object instance, Object value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void updateConfigValue(Object instance, Object value) {
+        var field = (Field) member;
+        try {
+            if (field.get(instance) instanceof ManagedConfigValue<?> configValue) {
+                update(configValue, value);
+            } else {
+                field.set(instance, new ManagedConfigValue<>(configName, value));
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void update(ManagedConfigValue<T> configValue, Object value) {
+        configValue.update((T) value);
+    }
+
+    /**
+     * Returns whether the member is bound to one of the configuration keys given.
+     *
+     * @param configNames The configuration keys.
+     * @return True, if the member needs to be re-bound if one of the configurations changes.
+     */
+    boolean isBoundTo(Set<String> configNames) {
+        if (!prefixed) {
+            return configNames.contains(configName);
+        }
+        var groupPrefix = configName + ".";
+        return configNames.stream().anyMatch(name -> name.startsWith(groupPrefix));
+    }
+
+    @FunctionalInterface
+    interface ConfigurationReader {
+
+        Object read(ConfigurationSnapshot snapshot, String source);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.reevik.mikron.annotation.Managed;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.string.Str;
+
+/**
+ * Builder of a {@link MikronContext}, in which the managed instances are registered in code, so
+ * that the context doesn't need to scan the classpath for the managed types. The registered
+ * instances go through the same life cycle as the scanned ones, i.e., they are configured, wired
+ * and initialized, and they can be mixed with the scanned ones, if the packages of an application
+ * class are scanned as well:
+ * <pre>
+ *   var context = MikronContext.builder()
+ *       .register(Clock.class, Clock::systemUTC)
+ *       .register("Repository", Repository.class,
+ *           ctx -&gt; new Repository(
+ *               ctx.&lt;Clock&gt;getInstance("java.time.Clock").orElseThrow()))
+ *       .dependsOn("Repository", "java.time.Clock")
+ *       .build();
+ * </pre>
+ */
+public final class ContextBuilder {
+
+  private final Map<String, Registration> registrations = new LinkedHashMap<>();
+  private Class<?> applicationClass;
+  private PropertiesRepository propertiesRepository;
+
+  ContextBuilder() {
+  }
+
+  /**
+   * Scans the packages of the application class annotated with
+   * {@link net.reevik.mikron.annotation.ManagedApplication} for the managed types, in addition to
+   * the registered ones.
+   *
+   * @param applicationClass The application class.
+   * @return The builder.
+   */
+  public ContextBuilder scan(Class<?> applicationClass) {
+    this.applicationClass = applicationClass;
+    return this;
+  }
+
+  /**
+   * Sets the repository of the configurations, e.g., a memory-mapped compiled snapshot.
+   *
+   * @param propertiesRepository The properties repository.
+   * @return The builder.
+   */
+  public ContextBuilder propertiesRepository(PropertiesRepository propertiesRepository) {
+    this.propertiesRepository = propertiesRepository;
+    return this;
+  }
+
+  /**
+   * Registers a managed instance of the type, which is named after the {@link Managed#name()} if
+   * the type is annotated, or else after the type.
+   *
+   * @param type     The type of the managed instance.
+   * @param supplier Creates the managed instance.
+   * @param <T>      The type of the managed instance.
+   * @return The builder.
+   */
+  public <T> ContextBuilder register(Class<T> type, Supplier<? extends T> supplier) {
+    return register(getName(type), type, context -> supplier.get());
+  }
+
+  /**
+   * Registers a managed instance with the name given, which is created by the factory. The factory
+   * can look up the managed instances, which the new one depends on, in the context.
+   *
+   * @param name    The name of the managed instance.
+   * @param type    The type of the managed instance.
+   * @param factory Creates the managed instance.
+   * @param <T>     The type of the managed instance.
+   * @return The builder.
+   */
+  public <T> ContextBuilder register(String name, Class<T> type,
+      Function<MikronContext, ? extends T> factory) {
+    registrations.put(name, new Registration(name, type, factory, List.of()));
+    return this;
+  }
+
+  /**
+   * Declares the dependencies of a registered managed instance, which are created before it.
+   *
+   * @param name            The name of the registered managed instance.
+   * @param dependencyNames The names of the managed instances, it depends on.
+   * @return The builder.
+   */
+  public ContextBuilder dependsOn(String name, String... dependencyNames) {
+    var registration = registrations.get(name);
+    if (registration == null) {
+      throw new IllegalArgumentException("No managed instance registered with the name=" + name);
+    }
+    var dependencies = new ArrayList<>(registration.dependencies());
+    dependencies.addAll(Arrays.asList(dependencyNames));
+    registrations.put(name, new Registration(name, registration.type(), registration.factory(),
+        List.copyOf(dependencies)));
+    return this;
+  }
+
+  public MikronContext build() {
+    var repository = propertiesRepository == null ? new PropertiesRepository()
+        : propertiesRepository;
+    return MikronContext.create(repository, applicationClass,
+        List.copyOf(registrations.values()));
+  }
+
+  private static String getName(Class<?> type) {
+    var managed = type.getAnnotation(Managed.class);
+    return managed == null || Str.isEmpty(managed.name()) ? type.getName() : managed.name();
+  }
+
+  /**
+   * Managed instance registered in code.
+   *
+   * @param name         The name of the managed instance.
+   * @param type         The type of the managed instance.
+   * @param factory      Creates the managed instance.
+   * @param dependencies The names of the managed instances, it depends on.
+   */
+  record Registration(String name, Class<?> type, Function<MikronContext, ?> factory,
+                      List<String> dependencies) {
+
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.reevik.mikron.annotation.CleanUp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cleans up the managed instances of a context in the reverse order of the dependency graph: a
+ * managed instance is cleaned up once all managed instances depending on it are, and the ones
+ * independent of each other concurrently on virtual threads. The clean-ups failing or timing out
+ * are collected instead of aborting the shutdown, and the ones, which haven't completed within
+ * the deadline, are interrupted.
+ */
+final class ContextShutdown {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ContextShutdown.class);
+
+  private final MikronContext context;
+  private final DependencyGraph graph;
+  private final Map<String, ManagedInstance> managedInstances;
+  private final long defaultTimeout;
+  private final Map<String, AtomicInteger> pendingDependents = new HashMap<>();
+  private final Map<String, Duration> durations = new ConcurrentHashMap<>();
+  private final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+  private final CountDownLatch remaining;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  ContextShutdown(MikronContext context, DependencyGraph graph,
+      Map<String, ManagedInstance> managedInstances, long defaultTimeout) {
+    this.context = context;
+    this.graph = graph;
+    this.managedInstances = Map.copyOf(managedInstances);
+    this.defaultTimeout = defaultTimeout;
+    this.remaining = new CountDownLatch(this.managedInstances.size());
+    for (var name : this.managedInstances.keySet()) {
+      pendingDependents.put(name, new AtomicInteger());
+    }
+    for (var name : this.managedInstances.keySet()) {
+      for (var dependency : getDependencies(name)) {
+        pendingDependents.get(dependency).incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Cleans up the managed instances and waits until all clean-ups have completed, or the
+   * deadline has passed.
+   *
+   * @param deadline The time in milliseconds, the shutdown may take, or zero if unlimited.
+   * @return The report of the shutdown.
+   */
+  ShutdownReport run(long deadline) {
+    var independent = pendingDependents.entrySet().stream()
+        .filter(entry -> entry.getValue().get() == 0)
+        .map(Map.Entry::getKey)
+        .toList();
+    independent.forEach(this::cleanUp);
+    var drained = await(deadline);
+    executor.shutdownNow();
+    if (!drained) {
+      for (var name : managedInstances.keySet()) {
+        if (!durations.containsKey(name)) {
+          failures.putIfAbsent(name, new TimeoutException("The clean-up of the managed instance="
+              + name + " hasn't completed within the shutdown deadline."));
+        }
+      }
+    }
+    return new ShutdownReport(Map.copyOf(durations), Map.copyOf(failures), drained);
+  }
+
+  private boolean await(long deadline) {
+    try {
+      if (deadline > 0) {
+        return remaining.await(deadline, TimeUnit.MILLISECONDS);
+      }
+      remaining.await();
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private List<String> getDependencies(String name) {
+    return graph.getDependencies(name).stream()
+        .filter(managedInstances::containsKey)
+        .toList();
+  }
+
+  private void cleanUp(String name) {
+    var managedInstance = managedInstances.get(name);
+    var cleanUpMethods = context.getInjectionPlan(managedInstance.getInstance().getClass())
+        .cleanUpMethods();
+    var startedAt = System.nanoTime();
+    var result = new CompletableFuture<Void>();
+    var timeout = cleanUpMethods.stream()
+        .mapToLong(method -> method.getAnnotation(CleanUp.class).timeout())
+        .max()
+        .orElse(0);
+    if (timeout <= 0) {
+      timeout = defaultTimeout;
+    }
+    if (timeout > 0) {
+      result.orTimeout(timeout, TimeUnit.MILLISECONDS);
+    }
+    var worker = executor.submit(() -> {
+      try {
+        for (var method : cleanUpMethods) {
+          if (method.getParameterCount() > 0) {
+            throw new IllegalArgumentException(
+                "@Initialize/@CleanUp methods shouldn't take " + "parameters.");
+          }
+          method.invoke(managedInstance.getInstance());
+        }
+        result.complete(null);
+      } catch (InvocationTargetException e) {
+        result.completeExceptionally(e.getCause());
+      } catch (Throwable e) {
+        result.completeExceptionally(e);
+      }
+    });
+    result.whenComplete((value, failure) -> {
+      var duration = Duration.ofNanos(System.nanoTime() - startedAt);
+      if (failure != null) {
+        worker.cancel(true);
+        failures.put(name, failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause() : failure);
+        LOG.warn("The clean-up of the managed instance={} has failed after {} ms.", name,
+            duration.toMillis(), failure);
+      } else {
+        LOG.debug("The managed instance={} is cleaned up in {} ms.", name, duration.toMillis());
+      }
+      durations.put(name, duration);
+      remaining.countDown();
+      for (var dependency : getDependencies(name)) {
+        if (pendingDependents.get(dependency).decrementAndGet() == 0) {
+          cleanUp(dependency);
+        }
+      }
+    });
+  }
+}
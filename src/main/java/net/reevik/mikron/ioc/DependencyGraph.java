@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Graph of the managed instances of a context, and their dependencies through the wired fields,
+ * the constructor parameters, the {@link net.reevik.mikron.annotation.Provides} methods and the
+ * dependencies declared explicitly. The graph is built before any managed instance is created, so
+ * that the cyclic dependencies are reported with the full cycle, and the managed instances are
+ * created in the topological order. The context records the start-up cost of each managed
+ * instance, i.e., the time spent creating, configuring, wiring and initializing it without its
+ * dependencies, which can be exported as DOT or JSON to find the critical path of the start-up.
+ */
+public final class DependencyGraph {
+
+  private final Map<String, Node> nodes;
+  private final Map<String, Long> startupNanos = new ConcurrentHashMap<>();
+  private final List<String> topologicalOrder;
+
+  DependencyGraph(Map<String, Node> nodes) {
+    this.nodes = Collections.unmodifiableMap(nodes);
+    this.topologicalOrder = sort();
+  }
+
+  public Map<String, Node> getNodes() {
+    return nodes;
+  }
+
+  public Optional<Node> getNode(String name) {
+    return Optional.ofNullable(nodes.get(name));
+  }
+
+  /**
+   * Returns the names of the managed instances in topological order, i.e., every managed instance
+   * comes after the ones it depends on.
+   *
+   * @return The names of the managed instances.
+   */
+  public List<String> getTopologicalOrder() {
+    return topologicalOrder;
+  }
+
+  List<String> getDependencies(String name) {
+    var node = nodes.get(name);
+    return node == null ? List.of() : node.dependencies();
+  }
+
+  void recordStartupCost(String name, long nanos) {
+    startupNanos.put(name, nanos);
+  }
+
+  /**
+   * Returns the start-up cost of the managed instance without its dependencies.
+   *
+   * @param name The name of the managed instance.
+   * @return The start-up cost, or empty if the managed instance isn't created yet.
+   */
+  public Optional<Duration> getStartupCost(String name) {
+    return Optional.ofNullable(startupNanos.get(name)).map(Duration::ofNanos);
+  }
+
+  /**
+   * Returns the chain of the dependencies with the highest cumulative start-up cost, starting
+   * with the managed instance, which is created first.
+   *
+   * @return The names of the managed instances on the critical path.
+   */
+  public List<String> getCriticalPath() {
+    var finish = new HashMap<String, Long>();
+    var predecessor = new HashMap<String, String>();
+    String last = null;
+    for (var name : topologicalOrder) {
+      long start = 0;
+      for (var dependency : getDependencies(name)) {
+        if (!predecessor.containsKey(name) || finish.get(dependency) > start) {
+          start = finish.get(dependency);
+          predecessor.put(name, dependency);
+        }
+      }
+      finish.put(name, start + startupNanos.getOrDefault(name, 0L));
+      if (last == null || finish.get(name) > finish.get(last)) {
+        last = name;
+      }
+    }
+    var path = new ArrayList<String>();
+    for (var name = last; name != null; name = predecessor.get(name)) {
+      path.add(name);
+    }
+    Collections.reverse(path);
+    return path;
+  }
+
+  /**
+   * Exports the graph in the DOT format, in which the edges point from the managed instances to
+   * their dependencies, and the nodes are labeled with their start-up costs.
+   *
+   * @return The graph in DOT format.
+   */
+  public String toDot() {
+    var dot = new StringBuilder("digraph mikron {\n");
+    for (var node : nodes.values()) {
+      dot.append("  ").append(quote(node.name())).append(" [label=")
+          .append(quote(node.name() + "\n" + formatMillis(node.name()) + " ms"));
+      if (node.lazy()) {
+        dot.append(", style=dashed");
+      }
+      dot.append("];\n");
+    }
+    for (var node : nodes.values()) {
+      for (var dependency : node.dependencies()) {
+        dot.append("  ").append(quote(node.name())).append(" -> ").append(quote(dependency))
+            .append(";\n");
+      }
+    }
+    return dot.append("}\n").toString();
+  }
+
+  /**
+   * Exports the graph in JSON format with the nodes, their dependencies and start-up costs, and
+   * the critical path.
+   *
+   * @return The graph in JSON format.
+   */
+  public String toJson() {
+    var json = new StringBuilder("{\"nodes\":[");
+    var first = true;
+    for (var node : nodes.values()) {
+      json.append(first ? "" : ",").append("{\"name\":").append(quote(node.name()))
+          .append(",\"type\":").append(quote(node.type().getName()))
+          .append(",\"lazy\":").append(node.lazy())
+          .append(",\"startupMillis\":").append(formatMillis(node.name()))
+          .append(",\"dependencies\":");
+      appendArray(json, node.dependencies());
+      json.append('}');
+      first = false;
+    }
+    json.append("],\"criticalPath\":");
+    appendArray(json, getCriticalPath());
+    return json.append('}').toString();
+  }
+
+  private String formatMillis(String name) {
+    return String.format(Locale.ROOT, "%.3f", startupNanos.getOrDefault(name, 0L) / 1e6);
+  }
+
+  private static void appendArray(StringBuilder json, List<String> values) {
+    json.append('[');
+    for (int i = 0; i < values.size(); i++) {
+      json.append(i == 0 ? "" : ",").append(quote(values.get(i)));
+    }
+    json.append(']');
+  }
+
+  private static String quote(String value) {
+    var quoted = new StringBuilder("\"");
+    for (var c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> quoted.append("\\\"");
+        case '\\' -> quoted.append("\\\\");
+        case '\n' -> quoted.append("\\n");
+        default -> {
+          if (c < 0x20) {
+            quoted.append(String.format("\\u%04x", (int) c));
+          } else {
+            quoted.append(c);
+          }
+        }
+      }
+    }
+    return quoted.append('"').toString();
+  }
+
+  /**
+   * Sorts the nodes topologically by an iterative depth-first search, which reports the first
+   * cycle found.
+   */
+  private List<String> sort() {
+    var order = new ArrayList<String>(nodes.size());
+    var visited = new HashMap<String, Boolean>();
+    for (var root : nodes.keySet()) {
+      if (visited.containsKey(root)) {
+        continue;
+      }
+      var path = new ArrayList<String>();
+      var iterators = new ArrayDeque<Iterator<String>>();
+      visited.put(root, false);
+      path.add(root);
+      iterators.push(getDependencies(root).iterator());
+      while (!iterators.isEmpty()) {
+        var dependencies = iterators.peek();
+        if (dependencies.hasNext()) {
+          var dependency = dependencies.next();
+          var done = visited.get(dependency);
+          if (done == null) {
+            visited.put(dependency, false);
+            path.add(dependency);
+            iterators.push(getDependencies(dependency).iterator());
+          } else if (!done) {
+            var cycle = new ArrayList<>(path.subList(path.indexOf(dependency), path.size()));
+            cycle.add(dependency);
+            throw new CyclicDependencyException(cycle);
+          }
+        } else {
+          iterators.pop();
+          var name = path.remove(path.size() - 1);
+          visited.put(name, true);
+          order.add(name);
+        }
+      }
+    }
+    return Collections.unmodifiableList(order);
+  }
+
+  /**
+   * A managed instance in the dependency graph.
+   *
+   * @param name         The name of the managed instance.
+   * @param type         The type of the managed instance.
+   * @param dependencies The names of the managed instances, it depends on.
+   * @param lazy         Whether the managed instance is created once it is requested.
+   */
+  public record Node(String name, Class<?> type, List<String> dependencies, boolean lazy) {
+
+  }
+}
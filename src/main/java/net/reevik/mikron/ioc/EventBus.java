@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import net.reevik.mikron.annotation.Listen;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process event bus of the context, which delivers the events to the {@link Listen} methods of
+ * the managed instances. The listeners are resolved once the managed instances are created, and
+ * each event type gets a dispatch table of the listeners of the type and its supertypes on its
+ * first publication. Publishing to the synchronous listeners doesn't allocate, and the
+ * asynchronous listeners take the events from their bounded queues on their virtual threads.
+ * <p>
+ * The listeners of the managed instances created lazily, and the events published before the
+ * context has created all managed instances, aren't taken into account. Once the context is
+ * closed, the events published are rejected, and the ones racing with the shutdown are dropped
+ * instead of blocking on the queues, which aren't drained anymore.
+ */
+public final class EventBus implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EventBus.class);
+  private static final Object STOP = new Object();
+
+  private final Listener[] listeners;
+  private volatile boolean closed;
+  private final ClassValue<Listener[]> dispatchTables = new ClassValue<>() {
+    @Override
+    protected Listener[] computeValue(Class<?> eventType) {
+      return Arrays.stream(listeners)
+          .filter(listener -> listener.eventType.isAssignableFrom(eventType))
+          .toArray(Listener[]::new);
+    }
+  };
+
+  EventBus(List<Listener> listeners) {
+    this.listeners = listeners.toArray(Listener[]::new);
+  }
+
+  static EventBus empty() {
+    return new EventBus(List.of());
+  }
+
+  /**
+   * Publishes the event to its listeners. The synchronous listeners are called on the current
+   * thread, and the event is queued for the asynchronous ones, which blocks while their queues
+   * are full.
+   *
+   * @param event The event published.
+   * @throws IllegalStateException If the event bus is closed.
+   */
+  public void publish(Object event) {
+    Objects.requireNonNull(event, "event");
+    if (closed) {
+      throw new IllegalStateException("The event bus is closed.");
+    }
+    for (var listener : dispatchTables.get(event.getClass())) {
+      listener.deliver(event);
+    }
+  }
+
+  /**
+   * Returns the number of the listeners, which the events of the type are delivered to.
+   *
+   * @param eventType The type of the events.
+   * @return The number of the listeners.
+   */
+  public int getListenerCount(Class<?> eventType) {
+    return dispatchTables.get(eventType).length;
+  }
+
+  /**
+   * Stops the asynchronous listeners once they have delivered the events queued.
+   *
+   * @param timeout The time in milliseconds to wait for the events queued, or zero if unlimited.
+   */
+  void close(long timeout) {
+    closed = true;
+    var deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+    for (var listener : listeners) {
+      listener.stop(deadline);
+    }
+    for (var listener : listeners) {
+      listener.await(deadline);
+    }
+  }
+
+  @Override
+  public void close() {
+    close(0);
+  }
+
+  /**
+   * A {@link Listen} method of a managed instance, bound to the managed instance.
+   */
+  static final class Listener {
+
+    private final String name;
+    private final Class<?> eventType;
+    private final MethodHandle handle;
+    private final BlockingQueue<Object> queue;
+    private final Thread worker;
+    private volatile boolean stopped;
+
+    private Listener(String name, Class<?> eventType, MethodHandle handle, int capacity) {
+      this.name = name;
+      this.eventType = eventType;
+      this.handle = handle;
+      if (capacity > 0) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = Thread.ofVirtual().name("mikron-listener-" + name).start(this::drain);
+      } else {
+        this.queue = null;
+        this.worker = null;
+      }
+    }
+
+    /**
+     * Creates the listener of the method of the managed instance.
+     *
+     * @param instance The managed instance.
+     * @param method   The {@link Listen} method.
+     * @param capacity The capacity of the queue of the asynchronous listener.
+     * @return The listener.
+     */
+    static Listener of(Object instance, Method method, int capacity) {
+      try {
+        method.setAccessible(true);
+        var handle = MethodHandles.lookup().unreflect(method)
+            .bindTo(instance)
+            .asType(MethodType.methodType(void.class, Object.class));
+        var eventType = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+        var async = method.getAnnotation(Listen.class).async();
+        return new Listener(method.getDeclaringClass().getName() + "#" + method.getName(),
+            eventType, handle, async ? Math.max(capacity, 1) : 0);
+      } catch (IllegalAccessException e) {
+        throw new IllegalManagedTypeException("Cannot access the @Listen method: " + method);
+      }
+    }
+
+    private void deliver(Object event) {
+      if (queue == null) {
+        invoke(event);
+        return;
+      }
+      try {
+        while (!queue.offer(event, 100, TimeUnit.MILLISECONDS)) {
+          if (stopped) {
+            LOG.warn("The event={} is dropped, since the listener={} is stopped.", event, name);
+            return;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while publishing the event={} to the listener={}", event, name);
+      }
+    }
+
+    private void invoke(Object event) {
+      try {
+        handle.invokeExact(event);
+      } catch (Throwable e) {
+        LOG.error("The listener={} has failed to handle the event={}", name, event, e);
+      }
+    }
+
+    private void drain() {
+      try {
+        for (var event = queue.take(); event != STOP; event = queue.take()) {
+          invoke(event);
+        }
+      } catch (InterruptedException e) {
+        LOG.warn("The listener={} is stopped with {} events queued.", name, queue.size());
+      }
+    }
+
+    private void stop(long deadline) {
+      if (worker == null) {
+        return;
+      }
+      stopped = true;
+      try {
+        if (deadline == 0) {
+          queue.put(STOP);
+        } else if (!queue.offer(STOP, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          worker.interrupt();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        worker.interrupt();
+      }
+    }
+
+    private void await(long deadline) {
+      if (worker == null) {
+        return;
+      }
+      try {
+        if (deadline == 0) {
+          worker.join();
+        } else if (!worker.join(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 1)))) {
+          worker.interrupt();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        worker.interrupt();
+      }
+    }
+  }
+}
@@ -56,7 +56,7 @@ public class FieldInjectionPoint implements InjectionPoint {
       if (field.trySetAccessible()) {
         if (context.getManagedInstances().containsKey(propClassName)) {
           var managedInstance = context.getManagedInstances().get(propClassName);
-          field.set(self, managedInstance.getInstance());
+          field.set(self, managedInstance.getInstance(field.getType()));
         } else {
           injectFirstAssignable(field);
         }
@@ -99,7 +99,7 @@ public class FieldInjectionPoint implements InjectionPoint {
       throws IllegalAccessException {
     if (candidates.size() == 1) {
       ManagedInstance firstCandidate = candidates.iterator().next();
-      field.set(self, firstCandidate.getInstance());
+      field.set(self, firstCandidate.getInstance(field.getType()));
     }
   }
 }
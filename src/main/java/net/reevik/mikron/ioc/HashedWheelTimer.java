@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer, which drives any number of timeouts by a single thread. The timeouts are hashed into the
+ * buckets of a wheel by their deadlines, and the thread expires the bucket of the current tick,
+ * so that scheduling and cancelling a timeout take constant time, at the expense of the
+ * precision of a tick.
+ */
+final class HashedWheelTimer implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+  private final long tickNanos;
+  private final List<List<Timeout>> wheel;
+  private final int mask;
+  private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+  private final long startTime = System.nanoTime();
+  private volatile boolean stopped;
+  private Thread worker;
+  private long tick;
+
+  /**
+   * Creates a timer.
+   *
+   * @param tickNanos The duration of a tick in nanoseconds.
+   * @param wheelSize The number of the buckets, which is rounded up to a power of two.
+   */
+  HashedWheelTimer(long tickNanos, int wheelSize) {
+    this.tickNanos = Math.max(tickNanos, 1);
+    var size = Integer.highestOneBit(Math.max(wheelSize, 1) * 2 - 1);
+    this.wheel = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      wheel.add(new ArrayList<>());
+    }
+    this.mask = size - 1;
+  }
+
+  /**
+   * Schedules the task, which is run on the thread of the timer once the delay has passed, so it
+   * must hand over any work to another thread.
+   *
+   * @param task       The task.
+   * @param delayNanos The delay in nanoseconds.
+   * @return The timeout, which cancels the task.
+   */
+  Timeout schedule(Runnable task, long delayNanos) {
+    var timeout = new Timeout(task, System.nanoTime() + Math.max(delayNanos, 0));
+    pending.add(timeout);
+    start();
+    return timeout;
+  }
+
+  private synchronized void start() {
+    if (worker == null && !stopped) {
+      worker = Thread.ofPlatform().name("mikron-timer").daemon().start(this::run);
+    }
+  }
+
+  private void run() {
+    while (!stopped) {
+      var deadline = startTime + (tick + 1) * tickNanos;
+      for (var now = System.nanoTime(); now < deadline && !stopped; now = System.nanoTime()) {
+        LockSupport.parkNanos(this, deadline - now);
+      }
+      transferPending();
+      expire(wheel.get((int) (tick & mask)), deadline);
+      tick++;
+    }
+  }
+
+  private void transferPending() {
+    for (var timeout = pending.poll(); timeout != null; timeout = pending.poll()) {
+      if (timeout.cancelled) {
+        continue;
+      }
+      var ticks = Math.max((timeout.deadline - startTime) / tickNanos, tick);
+      timeout.rounds = (ticks - tick) / wheel.size();
+      wheel.get((int) (ticks & mask)).add(timeout);
+    }
+  }
+
+  private void expire(List<Timeout> bucket, long deadline) {
+    for (int i = bucket.size() - 1; i >= 0; i--) {
+      var timeout = bucket.get(i);
+      if (timeout.cancelled || timeout.rounds <= 0 && timeout.deadline <= deadline) {
+        bucket.set(i, bucket.get(bucket.size() - 1));
+        bucket.remove(bucket.size() - 1);
+        if (!timeout.cancelled) {
+          runTask(timeout);
+        }
+      } else if (timeout.rounds > 0) {
+        timeout.rounds--;
+      }
+    }
+  }
+
+  private void runTask(Timeout timeout) {
+    try {
+      timeout.task.run();
+    } catch (RuntimeException e) {
+      LOG.error("The timer task has failed.", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    stopped = true;
+    Thread thread;
+    synchronized (this) {
+      thread = worker;
+    }
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  /**
+   * A task scheduled on the timer.
+   */
+  static final class Timeout {
+
+    private final Runnable task;
+    private final long deadline;
+    private long rounds;
+    private volatile boolean cancelled;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    void cancel() {
+      cancelled = true;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Injection plan of a managed type, i.e., how its instances are created, which fields are wired,
+ * and which methods are called after the instance is set up. The plan is resolved once per type
+ * and shared by all instances of the type, e.g., by thousands of instances created from the
+ * instance configurations.
+ *
+ * @param factory           Creates a new instance of the managed type.
+ * @param wireFields        The fields annotated with {@link net.reevik.mikron.annotation.Wire}.
+ * @param initializeMethods The methods annotated with
+ *                          {@link net.reevik.mikron.annotation.Initialize}.
+ * @param providerMethods   The factory methods annotated with
+ *                          {@link net.reevik.mikron.annotation.Provides}.
+ * @param cleanUpMethods    The methods annotated with {@link net.reevik.mikron.annotation.CleanUp}.
+ * @param asyncMethods      The methods annotated with {@link net.reevik.mikron.annotation.Async}.
+ * @param listenerMethods   The methods annotated with {@link net.reevik.mikron.annotation.Listen}.
+ * @param scheduledMethods  The methods annotated with
+ *                          {@link net.reevik.mikron.annotation.Scheduled}.
+ */
+record InjectionPlan(Supplier<Object> factory, List<Field> wireFields,
+                     List<Method> initializeMethods, List<ProviderMethod> providerMethods,
+                     List<Method> cleanUpMethods, Map<Method, AsyncMethod> asyncMethods,
+                     List<Method> listenerMethods, List<Method> scheduledMethods) {
+
+}
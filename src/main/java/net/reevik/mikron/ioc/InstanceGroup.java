@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import net.reevik.mikron.configuration.ConfigurationSnapshot;
+
+/**
+ * The managed instances of a component, which are created from its instance configurations, e.g.,
+ * "Shard-eu1.properties" and "Shard-us1.properties" for the component "Shard", keyed by their
+ * names in lexicographical order. The group can route keys to the instances, e.g., customers to
+ * their shards.
+ *
+ * @param <T> The type of the managed instances.
+ */
+public final class InstanceGroup<T> {
+
+  private final String componentName;
+  private final Map<String, T> instances;
+  private final List<T> routingTable;
+
+  InstanceGroup(String componentName, Map<String, T> instances) {
+    this.componentName = componentName;
+    this.instances = Collections.unmodifiableMap(new TreeMap<>(instances));
+    this.routingTable = List.copyOf(this.instances.values());
+  }
+
+  public String getComponentName() {
+    return componentName;
+  }
+
+  /**
+   * Returns the managed instances keyed by their names, e.g., "Shard-eu1".
+   *
+   * @return The managed instances in lexicographical order of their names.
+   */
+  public Map<String, T> getInstances() {
+    return instances;
+  }
+
+  /**
+   * Returns the managed instance with the qualifier, e.g., "eu1" for the instance "Shard-eu1".
+   *
+   * @param qualifier The instance qualifier.
+   * @return The managed instance.
+   */
+  public Optional<T> get(String qualifier) {
+    return Optional.ofNullable(
+        instances.get(componentName + ConfigurationSnapshot.INSTANCE_SEPARATOR + qualifier));
+  }
+
+  /**
+   * Routes the key to one of the managed instances by its hash code. The same key is always
+   * routed to the same instance as long as the group doesn't change.
+   *
+   * @param key The routing key.
+   * @return The managed instance.
+   */
+  public T route(Object key) {
+    return routingTable.get(Math.floorMod(Objects.hashCode(key), routingTable.size()));
+  }
+
+  public int size() {
+    return routingTable.size();
+  }
+}
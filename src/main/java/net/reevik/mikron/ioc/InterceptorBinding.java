@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Supplier;
+import net.reevik.mikron.annotation.Intercepts;
+import net.reevik.mikron.interceptor.MethodInterceptor;
+
+/**
+ * Binds an interceptor to the methods of the managed types.
+ *
+ * @param annotations The annotations of the methods or the managed types intercepted.
+ * @param types       The types, whose subtypes are intercepted.
+ * @param order       The order of the interceptor in the chain.
+ * @param interceptor Supplies the interceptor once the chains are computed.
+ */
+record InterceptorBinding(List<Class<? extends Annotation>> annotations, List<Class<?>> types,
+                          int order, Supplier<MethodInterceptor> interceptor) {
+
+  static InterceptorBinding of(Intercepts intercepts, Supplier<MethodInterceptor> interceptor) {
+    return new InterceptorBinding(List.of(intercepts.annotations()),
+        List.of(intercepts.types()), intercepts.order(), interceptor);
+  }
+
+  boolean matches(Class<?> managedType) {
+    return types.stream().anyMatch(type -> type.isAssignableFrom(managedType))
+        || annotations.stream().anyMatch(managedType::isAnnotationPresent);
+  }
+
+  boolean matches(Class<?> managedType, Method method) {
+    return matches(managedType) || annotations.stream().anyMatch(method::isAnnotationPresent);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import net.reevik.mikron.interceptor.Invocation;
+import net.reevik.mikron.interceptor.MethodInterceptor;
+
+/**
+ * Builds the interceptor chains of the methods, which are linked {@link Invocation}s computed
+ * once per method, so that a call doesn't allocate anything but the arguments array of the proxy.
+ */
+final class InterceptorChain {
+
+  private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class,
+      Object[].class);
+
+  private InterceptorChain() {
+  }
+
+  /**
+   * Builds the chain of the method.
+   *
+   * @param method       The method implementation.
+   * @param interceptors The interceptors in the order, in which they are called.
+   * @param asyncMethod  The asynchronous method, or null if the method is called directly.
+   * @param executor     Supplies the executor of the asynchronous calls.
+   * @return The first invocation of the chain.
+   */
+  static Invocation build(Method method, List<MethodInterceptor> interceptors,
+      AsyncMethod asyncMethod, Supplier<Executor> executor) {
+    Invocation invocation = asyncMethod != null
+        ? new AsyncInvocation(method, asyncMethod, executor)
+        : new MethodInvocation(method, invoker(method));
+    for (int i = interceptors.size() - 1; i >= 0; i--) {
+      invocation = new InterceptedInvocation(interceptors.get(i).forMethod(method), invocation);
+    }
+    return invocation;
+  }
+
+  private static MethodHandle invoker(Method method) {
+    try {
+      method.setAccessible(true);
+      return MethodHandles.lookup().unreflect(method)
+          .asSpreader(Object[].class, method.getParameterCount())
+          .asType(INVOKER_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new IllegalManagedTypeException("Cannot access the method: " + method);
+    }
+  }
+
+  private record MethodInvocation(Method method, MethodHandle invoker) implements Invocation {
+
+    @Override
+    public Method getMethod() {
+      return method;
+    }
+
+    @Override
+    public Object proceed(Object target, Object[] arguments) throws Throwable {
+      return invoker.invokeExact(target, arguments);
+    }
+  }
+
+  private record AsyncInvocation(Method method, AsyncMethod asyncMethod,
+                                 Supplier<Executor> executor) implements Invocation {
+
+    @Override
+    public Method getMethod() {
+      return method;
+    }
+
+    @Override
+    public Object proceed(Object target, Object[] arguments) {
+      return asyncMethod.submit(executor, target, arguments);
+    }
+  }
+
+  private record InterceptedInvocation(MethodInterceptor interceptor, Invocation next)
+      implements Invocation {
+
+    @Override
+    public Method getMethod() {
+      return next.getMethod();
+    }
+
+    @Override
+    public Object proceed(Object target, Object[] arguments) throws Throwable {
+      return interceptor.intercept(next, target, arguments);
+    }
+  }
+}
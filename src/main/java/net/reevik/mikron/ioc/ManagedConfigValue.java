@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import net.reevik.mikron.configuration.ConfigValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ConfigValue} implementation, which is updated by the context on configuration
+ * reloads.
+ *
+ * @param <T> The type of the configuration value.
+ */
+final class ManagedConfigValue<T> implements ConfigValue<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ManagedConfigValue.class);
+
+  private final String configName;
+  private final List<Listener<? super T>> listeners = new CopyOnWriteArrayList<>();
+  private volatile T value;
+
+  ManagedConfigValue(String configName, T value) {
+    this.configName = configName;
+    this.value = value;
+  }
+
+  @Override
+  public T get() {
+    return value;
+  }
+
+  @Override
+  public void addListener(Listener<? super T> listener) {
+    listeners.add(listener);
+  }
+
+  void update(T newValue) {
+    var oldValue = value;
+    value = newValue;
+    if (Objects.equals(oldValue, newValue)) {
+      return;
+    }
+    for (var listener : listeners) {
+      try {
+        listener.onChange(oldValue, newValue);
+      } catch (RuntimeException e) {
+        LOG.error("Configuration value listener failed for config={} Reason={}", configName,
+            e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+}
@@ -15,15 +15,13 @@
  */
 package net.reevik.mikron.ioc;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import net.reevik.mikron.annotation.Configurable;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import net.reevik.mikron.annotation.Initialize;
-import net.reevik.mikron.annotation.Wire;
-import net.reevik.mikron.configuration.ConfigurationBinding;
-import net.reevik.mikron.string.Str;
+import net.reevik.mikron.configuration.ConfigurationSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +31,7 @@ public class ManagedInstance {
     private final Object instance;
     private final String instanceName;
     private final MikronContext context;
+    private Object proxy;
 
     public ManagedInstance(Object instance, String instanceName, MikronContext context) {
         this.instance = instance;
@@ -41,10 +40,9 @@ public class ManagedInstance {
     }
 
     public void wire() {
-        Arrays.stream(instance.getClass().getDeclaredFields())
-            .filter(field -> field.isAnnotationPresent(Wire.class))
-            .map(field -> new FieldInjectionPoint(instance, field, context))
-            .forEach(FieldInjectionPoint::inject);
+        for (var field : context.getInjectionPlan(instance.getClass()).wireFields()) {
+            new FieldInjectionPoint(instance, field, context).inject();
+        }
     }
 
     public void configSetup() {
@@ -52,59 +50,115 @@ public class ManagedInstance {
     }
 
     public void configSetup(String configurationSourceKey) {
-        Arrays.stream(instance.getClass().getDeclaredFields())
-            .filter(field -> field.isAnnotationPresent(Configurable.class))
-            .forEach(field -> wireConfiguration(field, configurationSourceKey));
+        var snapshot = context.getPropertiesRepository().getSnapshot();
+        for (var configurableField : context.getConfigurableFields(instance.getClass())) {
+            configurableField.bind(instance, snapshot, configurationSourceKey);
+        }
     }
 
-    public void postConstruct() {
-        Class<?> aClass = getInstance().getClass();
-        for (Method declaredMethod : aClass.getDeclaredMethods()) {
-            if (declaredMethod.isAnnotationPresent(Initialize.class)) {
-                try {
-                    if (declaredMethod.getParameterCount() > 0) {
-                        throw new IllegalArgumentException(
-                            "@Initialize/@CleanUp methods shouldn't take " + "parameters.");
-                    }
-                    declaredMethod.invoke(getInstance());
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException(e);
-                }
-            }
+    /**
+     * Re-binds the configurable fields, which are bound to one of the configuration keys given,
+     * from the snapshot published with the change, e.g., once the configuration source is
+     * reloaded. All values are read and converted before any field is assigned, so that a value
+     * failing to convert leaves the previous ones in place. The fields are assigned on the thread
+     * publishing the change, so the fields re-bound must either be volatile, or
+     * {@link net.reevik.mikron.configuration.ConfigValue} handles, to be visible to the other
+     * threads. A key removed from the configuration leaves the value bound previously.
+     *
+     * @param configurationSourceKey The name of the configuration source.
+     * @param snapshot               The configuration snapshot published with the change.
+     * @param configNames            The configuration keys changed.
+     */
+    public void configSetup(String configurationSourceKey, ConfigurationSnapshot snapshot,
+        Set<String> configNames) {
+        var changedFields = context.getConfigurableFields(instance.getClass()).stream()
+            .filter(configurableField -> configurableField.isBoundTo(configNames))
+            .toList();
+        var values = new Object[changedFields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = changedFields.get(i).read(snapshot, configurationSourceKey);
+        }
+        for (int i = 0; i < values.length; i++) {
+            changedFields.get(i).apply(instance, values[i]);
         }
     }
 
-    private void wireConfiguration(final Field field, String configurationSourceKey) {
-        bindConfig(field, getConfigNameOnField(field), configurationSourceKey);
+    public void postConstruct() {
+        try (var initialization = new AsyncInitialization()) {
+            postConstruct(initialization, 0);
+            initialization.await();
+        }
     }
 
-    private void bindConfig(Field field, String configName, String configurationSourceKey) {
-        try {
-            if (field.trySetAccessible()) {
-                var managedConfig = context.getConfiguration(configurationSourceKey);
-                var converter = field.getAnnotation(Configurable.class).converter();
-                var bindingInstance = context.getConverter(field.getType(), converter);
-                var targetVal = bindingInstance.convert(
-                    managedConfig.map(g -> g.get(configName)).orElse(null));
-                new ConfigurationBinding().bind(field, instance, targetVal);
+    /**
+     * Calls the initialize methods, and submits the asynchronous ones, and the stages returned, to
+     * the initialization of the context.
+     *
+     * @param initialization The asynchronous initialization of the context.
+     * @param defaultTimeout The timeout in milliseconds of the asynchronous initializations, which
+     *                       don't declare one, or zero if unlimited.
+     */
+    void postConstruct(AsyncInitialization initialization, long defaultTimeout) {
+        var plan = context.getInjectionPlan(getInstance().getClass());
+        for (Method declaredMethod : plan.initializeMethods()) {
+            if (declaredMethod.getParameterCount() > 0) {
+                throw new IllegalArgumentException(
+                    "@Initialize/@CleanUp methods shouldn't take " + "parameters.");
+            }
+            var initialize = declaredMethod.getAnnotation(Initialize.class);
+            var timeout = initialize.timeout() > 0 ? initialize.timeout() : defaultTimeout;
+            if (initialize.async()) {
+                initialization.submit(instanceName, () -> invoke(declaredMethod), timeout);
+            } else if (invoke(declaredMethod) instanceof CompletionStage<?> stage) {
+                initialization.submit(instanceName, () -> stage, timeout);
             }
-        } catch (IllegalAccessException e) {
-            LOG.error("Cannot wire the field={} Reason={}", configName, e.getMessage());
-        } catch (InvocationTargetException | NoSuchMethodException | InstantiationException e) {
-            throw new RuntimeException(e);
         }
     }
 
-    private String getConfigNameOnField(Field field) {
-        var annotation = field.getAnnotation(Configurable.class);
-        var name = annotation.name();
-        return Str.isEmpty(name) ? field.getType().getName() : name;
+    private Object invoke(Method method) {
+        try {
+            return method.invoke(getInstance());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public Object getInstance() {
         return instance;
     }
 
+    /**
+     * Returns the managed instance to be wired into a field or parameter of the type given. If the
+     * type is an interface, and the managed instance has {@link net.reevik.mikron.annotation.Async}
+     * methods or intercepted ones, a proxy is returned, which dispatches their calls to the
+     * interceptor chains and the executor of the context.
+     *
+     * @param type The type of the field or parameter.
+     * @return The managed instance or its proxy.
+     */
+    public Object getInstance(Class<?> type) {
+        if (!type.isInterface() || !context.isProxied(instance.getClass())) {
+            return instance;
+        }
+        var managedProxy = getProxy();
+        return type.isInstance(managedProxy) ? managedProxy : instance;
+    }
+
+    private synchronized Object getProxy() {
+        if (proxy == null) {
+            try {
+                proxy = Proxy.newProxyInstance(instance.getClass().getClassLoader(),
+                    MikronContext.getInterfaces(instance.getClass()).toArray(Class<?>[]::new),
+                    new ProxyInvocationHandler(instance, context));
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Cannot create the proxy of the managed instance={} Reason={}",
+                    instanceName, e.getMessage());
+                proxy = instance;
+            }
+        }
+        return proxy;
+    }
+
     public String getInstanceName() {
         return instanceName;
     }
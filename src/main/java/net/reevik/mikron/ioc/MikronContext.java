@@ -15,29 +15,68 @@
  */
 package net.reevik.mikron.ioc;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import net.reevik.mikron.annotation.Async;
+import net.reevik.mikron.annotation.Batched;
+import net.reevik.mikron.annotation.Cached;
 import net.reevik.mikron.annotation.CleanUp;
+import net.reevik.mikron.annotation.Coalesce;
 import net.reevik.mikron.annotation.Configurable;
 import net.reevik.mikron.annotation.Initialize;
+import net.reevik.mikron.annotation.Intercepts;
+import net.reevik.mikron.annotation.Listen;
 import net.reevik.mikron.annotation.Managed;
 import net.reevik.mikron.annotation.ManagedApplication;
 import net.reevik.mikron.annotation.ManagedDefinition;
 import net.reevik.mikron.annotation.Prefer;
+import net.reevik.mikron.annotation.Provides;
+import net.reevik.mikron.annotation.Scheduled;
+import net.reevik.mikron.annotation.Timed;
 import net.reevik.mikron.annotation.Wire;
 import net.reevik.mikron.configuration.PropertiesRepository;
-import net.reevik.mikron.configuration.TypeConverter;
+import net.reevik.mikron.configuration.ConfigValue;
+import net.reevik.mikron.configuration.ConfigurationChange;
+import net.reevik.mikron.configuration.ConfigurationFilter;
+import net.reevik.mikron.configuration.ConfigurationObjectBinder;
+import net.reevik.mikron.configuration.ConverterRegistry;
+import net.reevik.mikron.interceptor.BatchSnapshot;
+import net.reevik.mikron.interceptor.BatchedInterceptor;
+import net.reevik.mikron.interceptor.CacheStats;
+import net.reevik.mikron.interceptor.CachedInterceptor;
+import net.reevik.mikron.interceptor.CoalescingInterceptor;
+import net.reevik.mikron.interceptor.Invocation;
+import net.reevik.mikron.interceptor.MethodInterceptor;
+import net.reevik.mikron.interceptor.TimedInterceptor;
+import net.reevik.mikron.interceptor.TimerSnapshot;
 import net.reevik.mikron.reflection.ClasspathResourceRepository;
 import net.reevik.mikron.string.Str;
 import org.slf4j.Logger;
@@ -58,26 +97,177 @@ public class MikronContext implements AutoCloseable {
     /**
      * The cache for the managed instances.
      */
-    private final Map<String, ManagedInstance> managedInstances = new HashMap<>();
+    private final Map<String, ManagedInstance> managedInstances = new ConcurrentHashMap<>();
     private final PropertiesRepository propertiesRepository;
     private final ClasspathResourceRepository classpathResourceRepository;
+    private final List<ContextBuilder.Registration> registrations;
+    private final ConverterRegistry converterRegistry = new ConverterRegistry();
+    private final ConfigurationObjectBinder objectBinder =
+        new ConfigurationObjectBinder(converterRegistry);
+    private final Map<String, ConfigurationFilter> configurationFilters =
+        new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<ConfigurableField>> configurableFields =
+        new ConcurrentHashMap<>();
+    private final Map<Class<?>, InjectionPlan> injectionPlans = new ConcurrentHashMap<>();
+    private final Map<String, InstanceGroup<?>> instanceGroups = new ConcurrentHashMap<>();
+    private LinkedHashMap<String, ManagedFactory> lazyFactories = new LinkedHashMap<>();
+    private volatile DependencyGraph dependencyGraph = new DependencyGraph(new LinkedHashMap<>());
 
     @Configurable(name = "key")
     private int key;
 
-    private MikronContext(Class<?> applicationClass) {
-        this.propertiesRepository = new PropertiesRepository();
-        this.propertiesRepository.loadAllProperties();
-        this.classpathResourceRepository = initializeClasspath(applicationClass);
+    /**
+     * Whether the properties files are watched for changes, and the configurations of the managed
+     * instances are re-bound. The configuration is read from "MikronContext.properties".
+     */
+    @Configurable(name = "mikron.configuration.watch")
+    private boolean watchConfiguration;
+
+    /**
+     * The number of instance configurations of a component, from which on its instances are
+     * created, configured and initialized in parallel.
+     */
+    @Configurable(name = "mikron.instances.parallel.threshold")
+    private int parallelInstantiationThreshold = 16;
+
+    /**
+     * The time in milliseconds, the asynchronous initializations may take, unless they declare
+     * their own timeout. Zero means unlimited.
+     */
+    @Configurable(name = "mikron.initialize.timeout")
+    private long initializeTimeout;
+
+    /**
+     * Whether the context waits for the asynchronous initializations to complete before it is
+     * returned. Otherwise, {@link #whenInitialized()} tells once they have completed.
+     */
+    @Configurable(name = "mikron.initialize.await")
+    private boolean awaitInitialization = true;
+
+    /**
+     * The time in milliseconds, the clean-up of a managed instance may take, unless its
+     * {@link CleanUp} methods declare their own timeout. Zero means unlimited.
+     */
+    @Configurable(name = "mikron.cleanup.timeout")
+    private long cleanUpTimeout;
+
+    /**
+     * The time in milliseconds, the clean-up of all managed instances may take once the context
+     * is closed, e.g., the termination grace period of the deployment. Zero means unlimited.
+     */
+    @Configurable(name = "mikron.shutdown.timeout")
+    private long shutdownTimeout = 30_000;
+
+    /**
+     * The number of the platform threads executing the {@link Async} methods. Zero means a new
+     * virtual thread per call.
+     */
+    @Configurable(name = "mikron.async.threads")
+    private int asyncThreads;
+
+    /**
+     * The capacity of the queue of each asynchronous {@link Listen} method, and so the number of
+     * the events, from which on the publishers wait for the listener.
+     */
+    @Configurable(name = "mikron.events.queue.capacity")
+    private int eventQueueCapacity = 1024;
+
+    /**
+     * The duration of a tick of the timer of the {@link Scheduled} methods in milliseconds, i.e.,
+     * the precision of their schedules.
+     */
+    @Configurable(name = "mikron.scheduler.tick")
+    private long schedulerTick = 10;
+
+    /**
+     * Whether the calls of all methods of the managed instances, which are wired through their
+     * interfaces, are timed as if they were annotated with {@link Timed}.
+     */
+    @Configurable(name = "mikron.metrics.timed.all")
+    private boolean timeAllMethods;
+
+    private volatile AsyncInitialization initialization = new AsyncInitialization();
+    private volatile Scheduler scheduler;
+    private volatile EventBus eventBus = EventBus.empty();
+    private ExecutorService asyncExecutor;
+    private boolean asyncExecutorClosed;
+
+    private final TimedInterceptor timedInterceptor = new TimedInterceptor();
+    private final CachedInterceptor cachedInterceptor = new CachedInterceptor(
+        this::getContextSetting);
+    private final BatchedInterceptor batchedInterceptor = new BatchedInterceptor(
+        this::getContextSetting);
+    private final CoalescingInterceptor coalescingInterceptor = new CoalescingInterceptor();
+    private volatile List<InterceptorBinding> interceptorBindings = List.of();
+    private final Map<Class<?>, Boolean> proxiedTypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Method, Invocation>> dispatchTables =
+        new ConcurrentHashMap<>();
+    private volatile ShutdownReport shutdownReport;
+
+    private MikronContext(PropertiesRepository propertiesRepository, Class<?> applicationClass,
+        List<ContextBuilder.Registration> registrations) {
+        this.propertiesRepository = propertiesRepository;
+        this.propertiesRepository.addChangeListener(this::rebindConfiguration);
+        this.classpathResourceRepository = applicationClass == null ? null
+            : initializeClasspath(applicationClass);
+        this.registrations = registrations;
     }
 
     public static MikronContext init(Class<?> clazz) {
-        var managedContext = new MikronContext(clazz);
+        return create(new PropertiesRepository(), clazz, List.of());
+    }
+
+    /**
+     * Creates a builder of a context, in which the managed instances are registered in code
+     * instead of being scanned in the classpath.
+     *
+     * @return The context builder.
+     */
+    public static ContextBuilder builder() {
+        return new ContextBuilder();
+    }
+
+    static MikronContext create(PropertiesRepository propertiesRepository,
+        Class<?> applicationClass, List<ContextBuilder.Registration> registrations) {
+        var managedContext = new MikronContext(propertiesRepository, applicationClass,
+            registrations);
         managedContext.managedInstances.clear();
-        managedContext.initializeContext();
+        try {
+            managedContext.initializeContext();
+        } catch (RuntimeException e) {
+            // The caller doesn't get a context to close, so the listeners, the scheduler and the
+            // managed instances created so far are cleaned up here.
+            try {
+                managedContext.close();
+            } catch (RuntimeException cleanUpFailure) {
+                e.addSuppressed(cleanUpFailure);
+            }
+            throw e;
+        }
+        if (managedContext.watchConfiguration) {
+            managedContext.watchConfigurations();
+        }
         return managedContext;
     }
 
+    /**
+     * Starts watching the properties files. Once a properties file changes, only the configurable
+     * fields of the managed instances, which are bound to the changed keys, are re-bound from the
+     * snapshot published. The fields are re-bound on the watcher thread, so they must be volatile,
+     * or {@link net.reevik.mikron.configuration.ConfigValue} handles, to be visible to the other
+     * threads. The keys removed leave the values bound previously.
+     */
+    public void watchConfigurations() {
+        propertiesRepository.watch();
+    }
+
+    private void rebindConfiguration(ConfigurationChange change) {
+        var managedInstance = managedInstances.get(change.source());
+        if (managedInstance != null) {
+            managedInstance.configSetup(change.source(), change.snapshot(), change.changedKeys());
+        }
+    }
+
     /**
      * Registers a new managed object explicitly, which makes the context rescan the packages so
      * that the new managed instance can be wired. This type of instance registration is used by
@@ -101,54 +291,370 @@ public class MikronContext implements AutoCloseable {
 
     private void initializeContext() {
         registerContext();
+        initialization.close();
+        initialization = new AsyncInitialization();
         LinkedHashMap<String, ManagedFactory> factories = new LinkedHashMap<>();
-        var managedTypes = classpathResourceRepository.findClassesBy(Managed.class);
+        var instanceGroupNames = new LinkedHashMap<String, List<String>>();
+        var managedTypes = classpathResourceRepository == null
+            ? List.<ManagedDefinition<Managed>>of()
+            : classpathResourceRepository.findClassesBy(Managed.class);
         for (var annotationResource : managedTypes) {
             var componentName = getName(annotationResource);
-            var propBasedInstanceCreation = createInstanceByPropertyFile(factories, annotationResource, componentName);
+            var instanceSources = propertiesRepository.getSnapshot()
+                .getInstanceSourceNames(componentName);
+            if (!instanceSources.isEmpty()) {
+                instanceGroupNames.put(componentName, List.copyOf(instanceSources));
+            }
+            var propBasedInstanceCreation = createInstanceByPropertyFile(factories, annotationResource, instanceSources);
             if (!propBasedInstanceCreation) {
                 var supplier = getManagedInstanceSupplier(annotationResource, componentName);
                 factories.put(componentName, supplier);
             }
         }
 
+        for (var registration : registrations) {
+            factories.put(registration.name(), getRegisteredInstanceSupplier(registration));
+        }
+        addProviderFactories(factories);
+        initializeInterceptors(factories);
+        var graph = buildDependencyGraph(factories);
+        synchronized (this) {
+            dependencyGraph = graph;
+            lazyFactories = factories;
+        }
+
+        for (var instanceNames : instanceGroupNames.values()) {
+            if (instanceNames.size() >= parallelInstantiationThreshold) {
+                instantiateInParallel(factories, instanceNames);
+            }
+        }
         for (Entry<String, ManagedFactory> entry : factories.entrySet()) {
-            instantiateManagedInstance(factories, entry.getValue());
+            if (!entry.getValue().lazy()) {
+                instantiateManagedInstance(factories, entry.getValue(), initialization);
+            }
         }
+        initializeInstanceGroups(instanceGroupNames);
+        initializeDispatchTables();
+        initializeEventBus();
+        if (awaitInitialization) {
+            initialization.await();
+        } else {
+            initialization.seal();
+        }
+        initializeScheduler();
     }
 
-    private void instantiateManagedInstance(LinkedHashMap<String, ManagedFactory> factories, ManagedFactory managedFactory) {
-        var managedManagedDefinition = managedFactory.annotationResource();
-        var declaredFields = managedManagedDefinition.clazz().getDeclaredFields();
-        for (var field : declaredFields) {
-            if (field.isAnnotationPresent(Wire.class)) {
-                var componentName = new ComponentNameResolver(field, this).getComponentName();
-                if (!managedInstances.containsKey(componentName) && factories.containsKey(componentName)) {
-                    instantiateManagedInstance(factories, factories.get(componentName));
+    /**
+     * Adds the factories of the managed instances provided by the {@link Provides} methods of the
+     * managed types. A provided instance depends on the managed instance declaring the method, and
+     * on the managed instances wired into the parameters of the method. The names of the provided
+     * instances must be unique, i.e., they must not clash with each other, or with the managed
+     * instances scanned or registered.
+     */
+    private void addProviderFactories(Map<String, ManagedFactory> factories) {
+        var providerMethods = new LinkedHashMap<String, ProviderMethod>();
+        for (var declaringFactory : List.copyOf(factories.values())) {
+            var plan = getInjectionPlan(declaringFactory.annotationResource().clazz());
+            for (var providerMethod : plan.providerMethods()) {
+                Supplier<Object> supplier = () -> providerMethod.invoke(
+                    managedInstances.get(declaringFactory.name()).getInstance(),
+                    resolveArguments(providerMethod.parameters()));
+                var existing = factories.get(providerMethod.name());
+                if (existing != null) {
+                    var existingSource = providerMethods.containsKey(providerMethod.name())
+                        ? "the @Provides method " + existing.dependencies().get(0) + "#"
+                            + providerMethods.get(providerMethod.name()).method().getName()
+                        : "the managed type " + existing.annotationResource().clazz().getName();
+                    throw new IllegalManagedTypeException("The managed instance="
+                        + providerMethod.name() + " provided by the @Provides method "
+                        + declaringFactory.name() + "#" + providerMethod.method().getName()
+                        + " is already defined by " + existingSource + ".");
                 }
+                var type = providerMethod.method().getReturnType();
+                factories.put(providerMethod.name(), new ManagedFactory(supplier,
+                    new ManagedDefinition<>(type.getAnnotation(Managed.class), type),
+                    providerMethod.name(), List.of(declaringFactory.name()),
+                    providerMethod.lazy()));
+                providerMethods.put(providerMethod.name(), providerMethod);
+            }
+        }
+        // The parameters are resolved once all provided instances are known, since they may be
+        // provided by the methods declared later.
+        providerMethods.forEach((name, providerMethod) -> {
+            var factory = factories.get(name);
+            var dependencies = new ArrayList<>(factory.dependencies());
+            for (var parameter : providerMethod.parameters()) {
+                findDependencyName(factories, parameter).ifPresent(dependencies::add);
             }
+            factories.put(name, new ManagedFactory(factory.supplier(), factory.annotationResource(),
+                name, List.copyOf(dependencies), factory.lazy()));
+        });
+    }
+
+    private Optional<String> findDependencyName(Map<String, ManagedFactory> factories,
+        Parameter parameter) {
+        var wire = parameter.getAnnotation(Wire.class);
+        if (wire != null && Str.isNotEmpty(wire.name())) {
+            return Optional.of(wire.name());
+        }
+        var type = parameter.getType();
+        if (factories.containsKey(type.getName())) {
+            return Optional.of(type.getName());
+        }
+        var candidates = factories.values().stream()
+            .filter(factory -> type.isAssignableFrom(factory.annotationResource().clazz()))
+            .map(ManagedFactory::name)
+            .toList();
+        return candidates.size() == 1 ? Optional.of(candidates.get(0)) : Optional.empty();
+    }
+
+    private Object[] resolveArguments(List<Parameter> parameters) {
+        var arguments = new Object[parameters.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = resolveArgument(parameters.get(i));
+        }
+        return arguments;
+    }
+
+    private Object resolveArgument(Parameter parameter) {
+        var wire = parameter.getAnnotation(Wire.class);
+        if (wire != null && Str.isNotEmpty(wire.name())) {
+            return getInstance(wire.name()).orElseThrow(() -> new IllegalWiringException(
+                "No managed instance found with the name=" + wire.name() + " for the parameter="
+                    + parameter + " of " + parameter.getDeclaringExecutable()));
+        }
+        var type = parameter.getType();
+        var managedInstance = managedInstances.get(type.getName());
+        if (managedInstance != null) {
+            return managedInstance.getInstance(type);
         }
+        var candidates = managedInstances.values().stream()
+            .map(ManagedInstance::getInstance)
+            .filter(type::isInstance)
+            .distinct()
+            .toList();
+        if (candidates.size() != 1) {
+            throw new IllegalWiringException("Cannot wire the parameter=" + parameter + " of "
+                + parameter.getDeclaringExecutable() + " Reason=" + candidates.size()
+                + " managed instances of the type found.");
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * Creates a lazy managed instance, and its dependencies not created yet, once it is requested.
+     * The asynchronous initializations of the managed instances created run in their own unit of
+     * work, which is awaited before the managed instance is returned, since the one of the context
+     * start-up may have already completed. If one of them fails, the managed instances created are
+     * discarded.
+     *
+     * @throws ApplicationInitializationException If one of the initializations fails or times out.
+     */
+    private synchronized ManagedInstance instantiateLazily(String name) {
+        var managedFactory = lazyFactories.get(name);
+        if (managedFactory == null) {
+            return null;
+        }
+        var existing = Set.copyOf(managedInstances.keySet());
+        try (var lazyInitialization = new AsyncInitialization()) {
+            instantiateManagedInstance(lazyFactories, managedFactory, lazyInitialization);
+            lazyInitialization.await();
+        } catch (RuntimeException e) {
+            managedInstances.keySet().removeIf(instanceName -> !existing.contains(instanceName));
+            throw e;
+        }
+        return managedInstances.get(name);
+    }
+
+    private void instantiateManagedInstance(LinkedHashMap<String, ManagedFactory> factories,
+        ManagedFactory managedFactory, AsyncInitialization scope) {
+        instantiateDependencies(factories, managedFactory, scope);
         if (managedInstances.containsKey(managedFactory.name())) {
             return;
         }
+        createManagedInstance(managedFactory, scope);
+    }
+
+    private void instantiateDependencies(LinkedHashMap<String, ManagedFactory> factories,
+        ManagedFactory managedFactory, AsyncInitialization scope) {
+        for (var dependencyName : dependencyGraph.getDependencies(managedFactory.name())) {
+            if (!managedInstances.containsKey(dependencyName)) {
+                instantiateManagedInstance(factories, factories.get(dependencyName), scope);
+            }
+        }
+    }
+
+    /**
+     * Builds the dependency graph of the managed instances from the dependencies declared, the
+     * wired fields, the parameters of the preferred constructors and of the {@link Provides}
+     * methods, and checks it for cycles before any managed instance is created. The dependencies on
+     * the instances, which aren't created by the context, e.g., the context itself, are left out.
+     */
+    private DependencyGraph buildDependencyGraph(Map<String, ManagedFactory> factories) {
+        var wiredNames = new HashMap<Class<?>, List<String>>();
+        var nodes = new LinkedHashMap<String, DependencyGraph.Node>();
+        for (var managedFactory : factories.values()) {
+            var dependencies = new LinkedHashSet<String>();
+            for (var dependencyName : managedFactory.dependencies()) {
+                if (factories.containsKey(dependencyName)) {
+                    dependencies.add(dependencyName);
+                } else if (!managedInstances.containsKey(dependencyName)) {
+                    throw new IllegalWiringException("The managed instance="
+                        + managedFactory.name() + " depends on the unknown one=" + dependencyName);
+                }
+            }
+            var type = managedFactory.annotationResource().clazz();
+            for (var dependencyName : wiredNames.computeIfAbsent(type,
+                managedType -> resolveWiredNames(factories, managedType))) {
+                if (factories.containsKey(dependencyName)) {
+                    dependencies.add(dependencyName);
+                }
+            }
+            nodes.put(managedFactory.name(), new DependencyGraph.Node(managedFactory.name(), type,
+                List.copyOf(dependencies), managedFactory.lazy()));
+        }
+        return new DependencyGraph(nodes);
+    }
+
+    private List<String> resolveWiredNames(Map<String, ManagedFactory> factories,
+        Class<?> managedType) {
+        var names = new ArrayList<String>();
+        for (var field : getInjectionPlan(managedType).wireFields()) {
+            names.add(new ComponentNameResolver(field, this).getComponentName());
+        }
+        Arrays.stream(managedType.getConstructors())
+            .filter(constructor -> constructor.isAnnotationPresent(Prefer.class))
+            .flatMap(constructor -> Arrays.stream(constructor.getParameters()))
+            .filter(parameter -> parameter.isAnnotationPresent(Wire.class))
+            .forEach(parameter -> findDependencyName(factories, parameter).ifPresent(names::add));
+        return names;
+    }
+
+    private void createManagedInstance(ManagedFactory managedFactory, AsyncInitialization scope) {
+        var startedAt = System.nanoTime();
         var object = managedFactory.supplier().get();
         var managedInstance = new ManagedInstance(object, managedFactory.name(), this);
         managedInstance.configSetup();
         managedInstance.wire();
-        managedInstance.postConstruct();
+        managedInstance.postConstruct(scope, initializeTimeout);
+        dependencyGraph.recordStartupCost(managedFactory.name(), System.nanoTime() - startedAt);
         managedInstances.put(managedFactory.name(), managedInstance);
     }
 
+    /**
+     * Creates the instances of a component from its instance configurations in parallel. The
+     * instances share the injection plan of the component type, and so its dependencies, which
+     * are instantiated before.
+     */
+    private void instantiateInParallel(LinkedHashMap<String, ManagedFactory> factories,
+        List<String> instanceNames) {
+        var firstFactory = instanceNames.stream()
+            .map(factories::get)
+            .filter(Objects::nonNull)
+            .findFirst();
+        if (firstFactory.isEmpty()) {
+            return;
+        }
+        instantiateDependencies(factories, firstFactory.get(), initialization);
+        var group = instanceNames.stream()
+            .filter(name -> !managedInstances.containsKey(name))
+            .map(factories::get)
+            .filter(Objects::nonNull)
+            .toList();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = group.stream()
+                .map(managedFactory -> executor.submit(() -> createManagedInstance(managedFactory,
+                    initialization)))
+                .toList();
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationInitializationException(
+                "Interrupted while creating the managed instances: " + instanceNames);
+        }
+    }
+
+    private void initializeEventBus() {
+        var listeners = new ArrayList<EventBus.Listener>();
+        for (var managedInstance : managedInstances.values()) {
+            var instance = managedInstance.getInstance();
+            for (var method : getInjectionPlan(instance.getClass()).listenerMethods()) {
+                listeners.add(EventBus.Listener.of(instance, method, eventQueueCapacity));
+            }
+        }
+        var previous = eventBus;
+        eventBus = new EventBus(listeners);
+        previous.close(shutdownTimeout);
+    }
+
+    private void initializeScheduler() {
+        var previous = scheduler;
+        if (previous != null) {
+            previous.close(shutdownTimeout);
+        }
+        var snapshot = propertiesRepository.getSnapshot();
+        var newScheduler = new Scheduler(schedulerTick);
+        for (var managedInstance : managedInstances.values()) {
+            var plan = getInjectionPlan(managedInstance.getInstance().getClass());
+            for (var method : plan.scheduledMethods()) {
+                newScheduler.schedule(managedInstance, method, snapshot);
+            }
+        }
+        scheduler = newScheduler;
+    }
+
+    /**
+     * Returns the metrics of the {@link Scheduled} methods by the names of the managed instances
+     * and the method names, e.g., "CacheRefresher#refresh".
+     *
+     * @return The metrics of the scheduled methods.
+     */
+    public Map<String, ScheduleMetrics> getScheduleMetrics() {
+        var current = scheduler;
+        return current == null ? Map.of() : current.getMetrics();
+    }
+
+    /**
+     * Returns the event bus of the context, which delivers the events to the {@link Listen}
+     * methods of the managed instances.
+     *
+     * @return The event bus.
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    private void initializeInstanceGroups(Map<String, List<String>> instanceGroupNames) {
+        instanceGroups.clear();
+        instanceGroupNames.forEach((componentName, instanceNames) -> {
+            var instances = new LinkedHashMap<String, Object>();
+            for (var instanceName : instanceNames) {
+                var managedInstance = managedInstances.get(instanceName);
+                if (managedInstance != null) {
+                    instances.put(instanceName, managedInstance.getInstance());
+                }
+            }
+            instanceGroups.put(componentName, new InstanceGroup<>(componentName, instances));
+        });
+    }
+
     private void initializeWiring() {
         managedInstances.values().forEach(ManagedInstance::wire);
     }
 
     private boolean createInstanceByPropertyFile(Map<String, ManagedFactory> factories,
         ManagedDefinition<Managed> annotationResource,
-        String componentName) {
+        Set<String> instanceSources) {
         var propBasedInstanceCreation = false;
-        for (var propFile : propertiesRepository.getPropertyClassNames()) {
-            if (propFile.startsWith(componentName) && !managedInstances.containsKey(propFile)) {
+        for (var propFile : instanceSources) {
+            if (!managedInstances.containsKey(propFile)) {
                 factories.put(propFile, getManagedInstanceSupplier(annotationResource, propFile));
                 propBasedInstanceCreation = true;
             }
@@ -157,8 +663,9 @@ public class MikronContext implements AutoCloseable {
     }
 
     private void registerContext() {
-        managedInstances.put(MikronContext.class.getSimpleName(),
-            new ManagedInstance(this, MikronContext.class.getSimpleName(), this));
+        var contextInstance = new ManagedInstance(this, MikronContext.class.getSimpleName(), this);
+        contextInstance.configSetup();
+        managedInstances.put(MikronContext.class.getSimpleName(), contextInstance);
     }
 
     private String getName(ManagedDefinition<Managed> annotationResource) {
@@ -169,7 +676,7 @@ public class MikronContext implements AutoCloseable {
         return name;
     }
 
-    private ClasspathResourceRepository initializeClasspath(Class<?> clazz) {
+    private static ClasspathResourceRepository initializeClasspath(Class<?> clazz) {
         final var declaredAnnotation = clazz.getAnnotation(ManagedApplication.class);
         if (declaredAnnotation == null) {
             throw new ApplicationInitializationException(
@@ -180,27 +687,92 @@ public class MikronContext implements AutoCloseable {
 
     private ManagedFactory getManagedInstanceSupplier(ManagedDefinition<Managed> annotationResource,
         String name) {
-        Class<?> managedDefiningClass = annotationResource.clazz();
-        Constructor<?>[] constructors = managedDefiningClass.getConstructors();
-        return Arrays.stream(constructors)
+        var plan = getInjectionPlan(annotationResource.clazz());
+        return new ManagedFactory(plan.factory(), annotationResource, name, List.of(), false);
+    }
+
+    private ManagedFactory getRegisteredInstanceSupplier(ContextBuilder.Registration registration) {
+        var type = registration.type();
+        Supplier<Object> supplier = () -> type.cast(registration.factory().apply(this));
+        return new ManagedFactory(supplier,
+            new ManagedDefinition<>(type.getAnnotation(Managed.class), type), registration.name(),
+            registration.dependencies(), false);
+    }
+
+    /**
+     * Returns the injection plan of the managed type, which is resolved once and cached, so that
+     * creating many instances of the same type, e.g., from instance configurations, doesn't need
+     * to look up its constructors, fields and methods again.
+     *
+     * @param managedType The type of the managed instance.
+     * @return The injection plan.
+     */
+    InjectionPlan getInjectionPlan(Class<?> managedType) {
+        return injectionPlans.computeIfAbsent(managedType, this::resolveInjectionPlan);
+    }
+
+    private InjectionPlan resolveInjectionPlan(Class<?> managedType) {
+        Supplier<Object> factory = Arrays.stream(managedType.getConstructors())
             .filter(constructor -> constructor.isAnnotationPresent(Prefer.class))
             .findFirst()
             .map(
                 constructor -> (Supplier<Object>) () -> new ConstructorInjectionPoint<>(constructor,
                     this).inject())
-            .map(supplier -> new ManagedFactory(supplier, annotationResource, name))
-            .orElseGet(() -> new ManagedFactory(() -> instantiateByDefault(annotationResource),
-                annotationResource, name));
+            .orElseGet(() -> defaultFactory(managedType));
+        var wireFields = Arrays.stream(managedType.getDeclaredFields())
+            .filter(field -> field.isAnnotationPresent(Wire.class))
+            .toList();
+        var initializeMethods = Arrays.stream(managedType.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Initialize.class))
+            .toList();
+        var providerMethods = Arrays.stream(managedType.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Provides.class))
+            .map(ProviderMethod::of)
+            .toList();
+        var cleanUpMethods = Arrays.stream(managedType.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(CleanUp.class))
+            .toList();
+        var asyncMethods = Arrays.stream(managedType.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Async.class) && !method.isBridge())
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), AsyncMethod::of));
+        var listenerMethods = Arrays.stream(managedType.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Listen.class))
+            .toList();
+        for (var listenerMethod : listenerMethods) {
+            if (listenerMethod.getParameterCount() != 1) {
+                throw new IllegalManagedTypeException("@Listen methods must take exactly one "
+                    + "parameter, the event: " + listenerMethod);
+            }
+        }
+        var scheduledMethods = Arrays.stream(managedType.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Scheduled.class))
+            .toList();
+        for (var scheduledMethod : scheduledMethods) {
+            if (scheduledMethod.getParameterCount() > 0) {
+                throw new IllegalManagedTypeException("@Scheduled methods shouldn't take "
+                    + "parameters: " + scheduledMethod);
+            }
+        }
+        return new InjectionPlan(factory, wireFields, initializeMethods, providerMethods,
+            cleanUpMethods, asyncMethods, listenerMethods, scheduledMethods);
     }
 
-    private Object instantiateByDefault(ManagedDefinition<Managed> annotationResource) {
+    private Supplier<Object> defaultFactory(Class<?> managedType) {
+        Constructor<?> constructor;
         try {
-            var clazz = annotationResource.clazz();
-            var constructor = clazz.getConstructor();
-            return constructor.newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+            constructor = managedType.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return () -> {
+                throw new RuntimeException(e);
+            };
         }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
     }
 
     ManagedInstance initObjectByAccess(Class<?> targetType, String targetName) {
@@ -249,11 +821,62 @@ public class MikronContext implements AutoCloseable {
     }
 
     public <T> Optional<T> getInstance(String name) {
-        if (managedInstances.containsKey(name)) {
-            ManagedInstance managedInstance = managedInstances.get(name);
-            return Optional.of((T) managedInstance.getInstance());
+        var managedInstance = managedInstances.get(name);
+        if (managedInstance == null) {
+            managedInstance = instantiateLazily(name);
+        }
+        return Optional.ofNullable(managedInstance).map(instance -> (T) instance.getInstance());
+    }
+
+    /**
+     * Returns the managed instance to be used as the type given, i.e., its proxy if the type is
+     * one of its interfaces, and it has {@link Async} or intercepted methods.
+     *
+     * @param name The name of the managed instance.
+     * @param type The type, the managed instance is used as.
+     * @param <T>  The type of the managed instance.
+     * @return The managed instance or its proxy.
+     */
+    public <T> Optional<T> getInstance(String name, Class<T> type) {
+        var managedInstance = managedInstances.get(name);
+        if (managedInstance == null) {
+            managedInstance = instantiateLazily(name);
         }
-        return Optional.empty();
+        return Optional.ofNullable(managedInstance).map(instance -> type.cast(
+            instance.getInstance(type)));
+    }
+
+    /**
+     * Returns the managed instances of the component, which are created from its instance
+     * configurations, e.g., "Shard-eu1.properties", as a keyed collection for routing.
+     *
+     * @param componentName The name of the managed component, e.g., "Shard".
+     * @param <T>           The type of the managed instances.
+     * @return The instance group.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<InstanceGroup<T>> getInstanceGroup(String componentName) {
+        return Optional.ofNullable((InstanceGroup<T>) instanceGroups.get(componentName));
+    }
+
+    /**
+     * Returns the dependency graph of the managed instances created by the context, with the
+     * start-up costs of the ones created so far.
+     *
+     * @return The dependency graph.
+     */
+    public DependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
+    /**
+     * Returns the stage, which completes once the asynchronous initializations of the managed
+     * instances have completed, or completes exceptionally once one of them fails or times out.
+     *
+     * @return The completion stage of the initialization.
+     */
+    public CompletionStage<Void> whenInitialized() {
+        return initialization.seal().minimalCompletionStage();
     }
 
     public PropertiesRepository getPropertiesRepository() {
@@ -264,38 +887,253 @@ public class MikronContext implements AutoCloseable {
         return propertiesRepository.getConfiguration(configurationSourceKey);
     }
 
-    private void postConstructAll() {
-        executeIfAnnotated(Initialize.class);
-    }
-
+    /**
+     * Closes the context, and cleans up the managed instances in the reverse order of their
+     * dependencies, the independent ones concurrently, within the shutdown deadline.
+     *
+     * @throws CleanUpException If the clean-up of some managed instances have failed or timed
+     *                          out, once all others are cleaned up.
+     */
     @Override
     public void close() {
-        executeIfAnnotated(CleanUp.class);
-    }
-
-    private void executeIfAnnotated(Class<? extends Annotation> annotation) {
-        managedInstances.values()
-            .forEach(managedInstance -> executeIfAnnotated(annotation, managedInstance));
-    }
-
-    private void executeIfAnnotated(Class<? extends Annotation> annotation,
-        ManagedInstance managedInstance) {
-        Class<?> aClass = managedInstance.getInstance().getClass();
-        for (Method declaredMethod : aClass.getDeclaredMethods()) {
-            if (declaredMethod.isAnnotationPresent(annotation)) {
-                try {
-                    if (declaredMethod.getParameterCount() > 0) {
-                        throw new IllegalArgumentException(
-                            "@Initialize/@CleanUp methods shouldn't take " + "parameters.");
-                    }
-                    declaredMethod.invoke(managedInstance.getInstance());
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException(e);
+        initialization.close();
+        propertiesRepository.close();
+        if (scheduler != null) {
+            scheduler.close(shutdownTimeout);
+        }
+        eventBus.close(shutdownTimeout);
+        shutdownAsyncExecutor();
+        var report = new ContextShutdown(this, dependencyGraph, managedInstances, cleanUpTimeout)
+            .run(shutdownTimeout);
+        shutdownReport = report;
+        if (!report.isSuccessful()) {
+            throw new CleanUpException(report);
+        }
+    }
+
+    private void shutdownAsyncExecutor() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = asyncExecutor;
+            asyncExecutorClosed = true;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout > 0 ? shutdownTimeout : Long.MAX_VALUE,
+                TimeUnit.MILLISECONDS)) {
+                LOG.warn("The asynchronous calls haven't completed within the shutdown deadline.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the executor of the {@link Async} methods, which is created on the first call, and
+     * shut down once the context is closed.
+     *
+     * @return The executor of the asynchronous calls.
+     * @throws RejectedExecutionException If the context is closed.
+     */
+    synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutorClosed) {
+            throw new RejectedExecutionException("The context is closed.");
+        }
+        if (asyncExecutor == null) {
+            asyncExecutor = asyncThreads > 0
+                ? Executors.newFixedThreadPool(asyncThreads,
+                    Thread.ofPlatform().name("mikron-async-", 0).daemon().factory())
+                : Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("mikron-async-", 0).factory());
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * Binds the built-in interceptors, and the managed {@link MethodInterceptor}s annotated with
+     * {@link Intercepts}, and drops the dispatch tables computed with the previous ones.
+     */
+    private void initializeInterceptors(Map<String, ManagedFactory> factories) {
+        var bindings = new ArrayList<InterceptorBinding>();
+        bindings.add(new InterceptorBinding(List.of(Timed.class),
+            timeAllMethods ? List.of(Object.class) : List.of(), Integer.MIN_VALUE,
+            () -> timedInterceptor));
+        bindings.add(new InterceptorBinding(List.of(Cached.class), List.of(),
+            Integer.MAX_VALUE - 2, () -> cachedInterceptor));
+        bindings.add(new InterceptorBinding(List.of(Coalesce.class), List.of(),
+            Integer.MAX_VALUE - 1, () -> coalescingInterceptor));
+        bindings.add(new InterceptorBinding(List.of(Batched.class), List.of(),
+            Integer.MAX_VALUE, () -> batchedInterceptor));
+        for (var factory : factories.values()) {
+            var type = factory.annotationResource().clazz();
+            var intercepts = type.getAnnotation(Intercepts.class);
+            if (intercepts != null && MethodInterceptor.class.isAssignableFrom(type)) {
+                bindings.add(InterceptorBinding.of(intercepts,
+                    () -> this.<MethodInterceptor>getInstance(factory.name()).orElseThrow()));
+            }
+        }
+        bindings.sort(Comparator.comparingInt(InterceptorBinding::order));
+        interceptorBindings = List.copyOf(bindings);
+        proxiedTypes.clear();
+        dispatchTables.clear();
+    }
+
+    private void initializeDispatchTables() {
+        for (var managedInstance : managedInstances.values()) {
+            var type = managedInstance.getInstance().getClass();
+            if (isProxied(type)) {
+                getDispatchTable(type);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the instances of the managed type are proxied once they are wired through
+     * their interfaces, i.e., if they have {@link Async} methods or intercepted ones. The
+     * interceptors themselves aren't intercepted.
+     *
+     * @param managedType The type of the managed instance.
+     * @return true if the instances are proxied.
+     */
+    boolean isProxied(Class<?> managedType) {
+        return proxiedTypes.computeIfAbsent(managedType, type -> {
+            if (!getInjectionPlan(type).asyncMethods().isEmpty()) {
+                return true;
+            }
+            if (MethodInterceptor.class.isAssignableFrom(type)) {
+                return false;
+            }
+            return getInterfaces(type).stream()
+                .flatMap(anInterface -> Arrays.stream(anInterface.getMethods()))
+                .map(method -> findImplementation(type, method))
+                .anyMatch(implementation -> interceptorBindings.stream()
+                    .anyMatch(binding -> binding.matches(type, implementation)));
+        });
+    }
+
+    /**
+     * Returns the dispatch table of the proxies of the managed type, i.e., the interceptor chains
+     * of the interface methods, which are computed once per managed type.
+     *
+     * @param managedType The type of the managed instance.
+     * @return The interceptor chains by the interface methods.
+     */
+    Map<Method, Invocation> getDispatchTable(Class<?> managedType) {
+        return dispatchTables.computeIfAbsent(managedType, type -> {
+            var plan = getInjectionPlan(type);
+            var intercepted = !MethodInterceptor.class.isAssignableFrom(type);
+            var table = new HashMap<Method, Invocation>();
+            for (var anInterface : getInterfaces(type)) {
+                for (var method : anInterface.getMethods()) {
+                    var implementation = findImplementation(type, method);
+                    var interceptors = interceptorBindings.stream()
+                        .filter(binding -> intercepted && binding.matches(type, implementation))
+                        .map(binding -> binding.interceptor().get())
+                        .toList();
+                    table.put(method, InterceptorChain.build(implementation, interceptors,
+                        plan.asyncMethods().get(implementation), this::getAsyncExecutor));
                 }
             }
+            return Map.copyOf(table);
+        });
+    }
+
+    private static Method findImplementation(Class<?> managedType, Method interfaceMethod) {
+        try {
+            return managedType.getMethod(interfaceMethod.getName(),
+                interfaceMethod.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            return interfaceMethod;
         }
     }
 
+    static Set<Class<?>> getInterfaces(Class<?> managedType) {
+        var interfaces = new LinkedHashSet<Class<?>>();
+        for (Class<?> type = managedType; type != null; type = type.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return interfaces;
+    }
+
+    /**
+     * Returns the metrics of the {@link Async} methods of the managed types by the method names,
+     * e.g., "com.acme.ReportService#render(java.lang.String,int)".
+     *
+     * @return The metrics of the asynchronous methods.
+     */
+    public Map<String, AsyncMethodMetrics> getAsyncMetrics() {
+        return injectionPlans.values().stream()
+            .flatMap(plan -> plan.asyncMethods().values().stream())
+            .map(AsyncMethod::metrics)
+            .collect(Collectors.toUnmodifiableMap(AsyncMethodMetrics::getName,
+                Function.identity()));
+    }
+
+    /**
+     * Returns the snapshots of the metrics of the {@link Timed} methods by the method names,
+     * e.g., "com.acme.ReportService#render(java.lang.String,int)".
+     *
+     * @return The snapshots of the timers.
+     */
+    public Map<String, TimerSnapshot> getTimerSnapshots() {
+        return timedInterceptor.getSnapshots();
+    }
+
+    /**
+     * Returns the snapshots of the metrics of the {@link Timed} methods as a JSON array.
+     *
+     * @return The snapshots of the timers in JSON format.
+     */
+    public String getTimerSnapshotsAsJson() {
+        return timedInterceptor.toJson();
+    }
+
+    /**
+     * Returns the snapshots of the metrics of the {@link Batched} methods by the batcher names.
+     *
+     * @return The batch metrics.
+     */
+    public Map<String, BatchSnapshot> getBatchSnapshots() {
+        return batchedInterceptor.getSnapshots();
+    }
+
+    /**
+     * Returns the number of the calls of the {@link Coalesce} methods, which have shared the
+     * result of an identical call in flight.
+     *
+     * @return The number of the coalesced calls.
+     */
+    public long getCoalescedCalls() {
+        return coalescingInterceptor.getCoalescedCalls();
+    }
+
+    private String getContextSetting(String key) {
+        return propertiesRepository.getSnapshot()
+            .getResolvedValue(MikronContext.class.getSimpleName(), key);
+    }
+
+    /**
+     * Returns the statistics of the caches of the {@link Cached} methods by the cache names.
+     *
+     * @return The cache statistics.
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        return cachedInterceptor.getStats();
+    }
+
+    /**
+     * Returns the report of the last shutdown, once the context is closed.
+     *
+     * @return The shutdown report.
+     */
+    public Optional<ShutdownReport> getShutdownReport() {
+        return Optional.ofNullable(shutdownReport);
+    }
+
     /**
      * Find and return the implementing managed instances.
      *
@@ -303,21 +1141,118 @@ public class MikronContext implements AutoCloseable {
      * @return All implementing concrete managed instances.
      */
     public Set<Class<?>> findImplementingManagedInstances(Class<?> parentType) {
-        return classpathResourceRepository.findImplementingClasses(parentType, Managed.class);
+        var implementingTypes = new HashSet<Class<?>>();
+        if (classpathResourceRepository != null) {
+            implementingTypes.addAll(
+                classpathResourceRepository.findImplementingClasses(parentType, Managed.class));
+        }
+        for (var registration : registrations) {
+            if (parentType.isAssignableFrom(registration.type())) {
+                implementingTypes.add(registration.type());
+            }
+        }
+        return implementingTypes;
     }
 
-    TypeConverter getConverter(Class<?> clazz, Class<? extends TypeConverter> converter)
-        throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        try {
-            return converter.getConstructor(Class.class).newInstance(clazz);
-        } catch (NoSuchMethodException nsm) {
-            return converter.getConstructor().newInstance();
+    public ConverterRegistry getConverterRegistry() {
+        return converterRegistry;
+    }
+
+    /**
+     * Returns the configuration injection points of the managed type, which are resolved once and
+     * cached, so that re-binding configurations, e.g., on dynamic wiring, doesn't need to look up
+     * the fields, the setter methods and the converters again. The fields are bound before the
+     * setter methods are called.
+     *
+     * @param managedType The type of the managed instance.
+     * @return The configuration injection points.
+     */
+    List<ConfigurableField> getConfigurableFields(Class<?> managedType) {
+        return configurableFields.computeIfAbsent(managedType, this::resolveConfigurableFields);
+    }
+
+    /**
+     * Returns the parsed filter of the {@link Wire#filter()} expression, which is parsed once and
+     * cached, so that resolving the filtered dependencies, e.g., on dynamic wiring, doesn't parse
+     * the expressions again.
+     *
+     * @param expression The filter expression.
+     * @return The configuration filter.
+     */
+    ConfigurationFilter getConfigurationFilter(String expression) {
+        return configurationFilters.computeIfAbsent(expression, ConfigurationFilter::parse);
+    }
+
+    private List<ConfigurableField> resolveConfigurableFields(Class<?> managedType) {
+        var fields = new ArrayList<ConfigurableField>();
+        for (var field : managedType.getDeclaredFields()) {
+            var configurable = field.getAnnotation(Configurable.class);
+            if (configurable == null) {
+                continue;
+            }
+            if (!field.trySetAccessible()) {
+                LOG.error("Cannot wire the field={} Reason=The field is not accessible.", field);
+                continue;
+            }
+            var live = field.getType() == ConfigValue.class;
+            var valueType = live ? getConfigValueType(field) : field.getGenericType();
+            if (Str.isNotEmpty(configurable.prefix())) {
+                fields.add(ConfigurableField.ofGroup(field, configurable.prefix(), live, valueType,
+                    objectBinder));
+                continue;
+            }
+            var valueClass = valueType instanceof ParameterizedType parameterized
+                ? (Class<?>) parameterized.getRawType() : (Class<?>) valueType;
+            var configName = Str.isEmpty(configurable.name()) ? valueClass.getName()
+                : configurable.name();
+            var converter = converterRegistry.getConverter(valueClass, configurable.converter());
+            fields.add(ConfigurableField.of(field, configName, live, converter));
+        }
+        for (var method : managedType.getDeclaredMethods()) {
+            var configurable = method.getAnnotation(Configurable.class);
+            if (configurable == null) {
+                continue;
+            }
+            if (method.getParameterCount() != 1) {
+                throw new IllegalManagedTypeException("@Configurable methods must take exactly "
+                    + "one parameter, but the method=" + method + " doesn't.");
+            }
+            if (!method.trySetAccessible()) {
+                LOG.error("Cannot configure the method={} Reason=The method is not accessible.",
+                    method);
+                continue;
+            }
+            if (Str.isNotEmpty(configurable.prefix())) {
+                fields.add(ConfigurableField.ofGroupSetter(method, configurable.prefix(),
+                    objectBinder));
+                continue;
+            }
+            var parameterType = method.getParameterTypes()[0];
+            var configName = Str.isEmpty(configurable.name()) ? parameterType.getName()
+                : configurable.name();
+            var converter = converterRegistry.getConverter(parameterType,
+                configurable.converter());
+            fields.add(ConfigurableField.ofSetter(method, configName, converter));
+        }
+        return List.copyOf(fields);
+    }
+
+    private static Type getConfigValueType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType parameterized) {
+            var valueType = parameterized.getActualTypeArguments()[0];
+            if (valueType instanceof Class<?> || valueType instanceof ParameterizedType) {
+                return valueType;
+            }
         }
+        throw new IllegalManagedTypeException("The configuration value type of the field="
+            + field + " must be a type argument of ConfigValue, e.g., ConfigValue<Integer>.");
     }
 
     record ManagedFactory(Supplier<Object> supplier,
                           ManagedDefinition<Managed> annotationResource,
-                          String name) {
+                          String name,
+                          List<String> dependencies,
+                          boolean lazy) {
 
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import net.reevik.mikron.annotation.Provides;
+import net.reevik.mikron.string.Str;
+
+/**
+ * Factory method of a managed instance annotated with {@link Provides}. The method is resolved
+ * once per managed type into a method handle, which takes the declaring instance and the array of
+ * the arguments, so that calling it doesn't go through reflection.
+ *
+ * @param method     The factory method.
+ * @param handle     The method handle of the type (Object, Object[])Object.
+ * @param name       The name of the managed instance provided.
+ * @param lazy       Whether the managed instance is created once it is requested.
+ * @param parameters The parameters wired from the context.
+ */
+record ProviderMethod(Method method, MethodHandle handle, String name, boolean lazy,
+                      List<Parameter> parameters) {
+
+  private static final MethodType PROVIDER_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object[].class);
+
+  static ProviderMethod of(Method method) {
+    if (method.getReturnType() == void.class) {
+      throw new IllegalManagedTypeException("@Provides methods must return the managed instance, "
+          + "but the method=" + method + " doesn't.");
+    }
+    method.setAccessible(true);
+    var provides = method.getAnnotation(Provides.class);
+    var name = Str.isEmpty(provides.name()) ? method.getReturnType().getName() : provides.name();
+    try {
+      var handle = MethodHandles.lookup().unreflect(method);
+      if (Modifier.isStatic(method.getModifiers())) {
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      handle = handle.asSpreader(Object[].class, method.getParameterCount()).asType(PROVIDER_TYPE);
+      return new ProviderMethod(method, handle, name, provides.lazy(),
+          List.of(method.getParameters()));
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  Object invoke(Object declaringInstance, Object[] arguments) {
+    try {
+      return (Object) handle.invokeExact(declaringInstance, arguments);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
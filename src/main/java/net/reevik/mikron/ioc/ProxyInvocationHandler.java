@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Map;
+import net.reevik.mikron.interceptor.Invocation;
+
+/**
+ * Dispatches the calls through the interfaces of a managed instance to the interceptor chains of
+ * its methods, which end with either the executor of the context if the method is
+ * {@link net.reevik.mikron.annotation.Async}, or else the managed instance. The dispatch table
+ * of the managed type is computed on the first call, and shared by all of its instances.
+ */
+class ProxyInvocationHandler implements InvocationHandler {
+
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+  private final Object target;
+  private final MikronContext context;
+  private Map<Method, Invocation> dispatchTable;
+
+  ProxyInvocationHandler(Object target, MikronContext context) {
+    this.target = target;
+    this.context = context;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (method.getDeclaringClass() == Object.class) {
+      return switch (method.getName()) {
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        default -> method.invoke(target, args);
+      };
+    }
+    var table = dispatchTable;
+    if (table == null) {
+      table = context.getDispatchTable(target.getClass());
+      dispatchTable = table;
+    }
+    return table.get(method).proceed(target, args == null ? NO_ARGUMENTS : args);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a {@link net.reevik.mikron.annotation.Scheduled} method, i.e., how many calls
+ * have run, failed, or been skipped since the previous call was still running (overruns), and
+ * how late the calls have started compared to their schedule (drift).
+ */
+public final class ScheduleMetrics {
+
+  private final String name;
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder overruns = new LongAdder();
+  private final LongAdder driftNanos = new LongAdder();
+  private final AtomicLong maxDriftNanos = new AtomicLong();
+  private final AtomicLong lastDurationNanos = new AtomicLong();
+
+  ScheduleMetrics(String name) {
+    this.name = name;
+  }
+
+  void recordStarted(long drift) {
+    driftNanos.add(drift);
+    maxDriftNanos.accumulateAndGet(drift, Math::max);
+  }
+
+  void recordCompleted(long duration, boolean successful) {
+    executions.increment();
+    if (!successful) {
+      failures.increment();
+    }
+    lastDurationNanos.set(duration);
+  }
+
+  void recordOverrun() {
+    overruns.increment();
+  }
+
+  /**
+   * Returns the name of the method, i.e., the name of the managed instance and the method name
+   * separated by "#".
+   *
+   * @return The name of the method.
+   */
+  public String getName() {
+    return name;
+  }
+
+  public long getExecutions() {
+    return executions.sum();
+  }
+
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  public long getOverruns() {
+    return overruns.sum();
+  }
+
+  public Duration getMaxDrift() {
+    return Duration.ofNanos(maxDriftNanos.get());
+  }
+
+  public Duration getAverageDrift() {
+    var count = getExecutions();
+    return Duration.ofNanos(count == 0 ? 0 : driftNanos.sum() / count);
+  }
+
+  public Duration getLastDuration() {
+    return Duration.ofNanos(lastDurationNanos.get());
+  }
+
+  @Override
+  public String toString() {
+    return name + "[executions=" + getExecutions() + ", failures=" + getFailures()
+        + ", overruns=" + getOverruns() + ", maxDrift=" + getMaxDrift() + "]";
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.reevik.mikron.annotation.Scheduled;
+import net.reevik.mikron.configuration.ConfigurationSnapshot;
+import net.reevik.mikron.string.Str;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the {@link Scheduled} methods of the managed instances. All schedules are driven by a
+ * single {@link HashedWheelTimer}, and the calls run on virtual threads.
+ */
+final class Scheduler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(Scheduler.class);
+  private static final int WHEEL_SIZE = 512;
+
+  private final HashedWheelTimer timer;
+  private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("mikron-scheduled-", 0).factory());
+  private final List<ScheduledTask> tasks = new CopyOnWriteArrayList<>();
+  private final Map<String, ScheduleMetrics> metrics = new ConcurrentHashMap<>();
+
+  Scheduler(long tickMillis) {
+    this.timer = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(tickMillis), WHEEL_SIZE);
+  }
+
+  /**
+   * Schedules the method of the managed instance, whose intervals are read from the annotation
+   * and the configuration of the managed instance.
+   *
+   * @param managedInstance The managed instance.
+   * @param method          The {@link Scheduled} method.
+   * @param snapshot        The configuration snapshot.
+   */
+  void schedule(ManagedInstance managedInstance, Method method, ConfigurationSnapshot snapshot) {
+    var scheduled = method.getAnnotation(Scheduled.class);
+    var source = managedInstance.getInstanceName();
+    var fixedRate = getInterval(snapshot, source, scheduled, "fixedRate", scheduled.fixedRate());
+    var fixedDelay = getInterval(snapshot, source, scheduled, "fixedDelay",
+        scheduled.fixedDelay());
+    var initialDelay = getInterval(snapshot, source, scheduled, "initialDelay",
+        scheduled.initialDelay());
+    if (fixedRate > 0 == fixedDelay > 0) {
+      throw new IllegalManagedTypeException("@Scheduled methods must have either a fixed rate or "
+          + "a fixed delay: " + method);
+    }
+    var name = source + "#" + method.getName();
+    var task = new ScheduledTask(managedInstance.getInstance(), method,
+        metrics.computeIfAbsent(name, ScheduleMetrics::new), fixedRate, fixedDelay);
+    tasks.add(task);
+    task.schedule(System.nanoTime() + initialDelay);
+  }
+
+  private static long getInterval(ConfigurationSnapshot snapshot, String source,
+      Scheduled scheduled, String key, long defaultValue) {
+    if (Str.isNotEmpty(scheduled.prefix())) {
+      var value = snapshot.getResolvedValue(source, scheduled.prefix() + "." + key);
+      if (value != null) {
+        return scheduled.unit().toNanos(Long.parseLong(value.trim()));
+      }
+    }
+    return scheduled.unit().toNanos(defaultValue);
+  }
+
+  Map<String, ScheduleMetrics> getMetrics() {
+    return Map.copyOf(metrics);
+  }
+
+  /**
+   * Cancels the schedules, and waits for the calls running to complete.
+   *
+   * @param timeout The time in milliseconds to wait for the calls, or zero if unlimited.
+   */
+  void close(long timeout) {
+    tasks.forEach(ScheduledTask::cancel);
+    timer.close();
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(timeout > 0 ? timeout : Long.MAX_VALUE,
+          TimeUnit.MILLISECONDS)) {
+        LOG.warn("The scheduled calls haven't completed within the shutdown deadline.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    executor.shutdownNow();
+  }
+
+  private final class ScheduledTask {
+
+    private final Object target;
+    private final Method method;
+    private final ScheduleMetrics metrics;
+    private final long fixedRate;
+    private final long fixedDelay;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile HashedWheelTimer.Timeout timeout;
+    private volatile boolean cancelled;
+
+    private ScheduledTask(Object target, Method method, ScheduleMetrics metrics, long fixedRate,
+        long fixedDelay) {
+      this.target = target;
+      this.method = method;
+      this.metrics = metrics;
+      this.fixedRate = fixedRate;
+      this.fixedDelay = fixedDelay;
+      method.setAccessible(true);
+    }
+
+    private void schedule(long plannedAt) {
+      if (!cancelled) {
+        timeout = timer.schedule(() -> fire(plannedAt), plannedAt - System.nanoTime());
+      }
+    }
+
+    /**
+     * Called on the thread of the timer once the call is due.
+     */
+    private void fire(long plannedAt) {
+      var now = System.nanoTime();
+      if (fixedRate > 0) {
+        var next = plannedAt + fixedRate;
+        schedule(next > now ? next : now + fixedRate - (now - plannedAt) % fixedRate);
+      }
+      if (!running.compareAndSet(false, true)) {
+        metrics.recordOverrun();
+        return;
+      }
+      metrics.recordStarted(now - plannedAt);
+      try {
+        executor.execute(this::run);
+      } catch (RejectedExecutionException e) {
+        running.set(false);
+      }
+    }
+
+    private void run() {
+      var startedAt = System.nanoTime();
+      var successful = false;
+      try {
+        method.invoke(target);
+        successful = true;
+      } catch (InvocationTargetException e) {
+        LOG.error("The scheduled call of {} has failed.", metrics.getName(), e.getCause());
+      } catch (IllegalAccessException e) {
+        LOG.error("Cannot call the scheduled method={}", method, e);
+      } finally {
+        metrics.recordCompleted(System.nanoTime() - startedAt, successful);
+        running.set(false);
+        if (fixedDelay > 0) {
+          schedule(System.nanoTime() + fixedDelay);
+        }
+      }
+    }
+
+    private void cancel() {
+      cancelled = true;
+      var current = timeout;
+      if (current != null) {
+        current.cancel();
+      }
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.ioc;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The report of the clean-up of the managed instances, once the context is closed.
+ *
+ * @param durations The time taken by the clean-up of each managed instance.
+ * @param failures  The failures of the clean-up by the managed instance names, including the
+ *                  clean-ups, which have timed out or haven't completed within the deadline.
+ * @param drained   Whether all clean-ups have completed within the shutdown deadline.
+ */
+public record ShutdownReport(Map<String, Duration> durations, Map<String, Throwable> failures,
+                             boolean drained) {
+
+  public boolean isSuccessful() {
+    return drained && failures.isEmpty();
+  }
+}
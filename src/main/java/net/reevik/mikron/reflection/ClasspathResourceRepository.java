@@ -17,14 +17,21 @@ package net.reevik.mikron.reflection;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -52,6 +59,7 @@ public class ClasspathResourceRepository {
   public static final String[] SCAN_ALL = new String[]{".*"};
   private static final String PROTOCOL_FILE = "file";
   private static final String PROTOCOL_JAR = "jar";
+  private static final String MANIFEST = "META-INF/MANIFEST.MF";
   public static final String CLASS_EXT = ".class";
 
   private final List<Class<?>> repo = Collections.synchronizedList(new ArrayList<>());
@@ -111,9 +119,7 @@ public class ClasspathResourceRepository {
               Arrays.stream(fs).forEach(file -> process(file, baseDir, classLoader, recursive)));
         } else if (protocol.equals(PROTOCOL_JAR)) {
           final Enumeration<JarEntry> entries;
-          var path = baseURL.toString();
-          var split = path.split("!");
-          try (final var jarFile = new JarFile(split[0].replace("jar:file:", ""))) {
+          try (final var jarFile = new JarFile(toJarPath(baseURL).toFile())) {
             entries = jarFile.entries();
             while (entries.hasMoreElements()) {
               var entry = entries.nextElement();
@@ -132,6 +138,65 @@ public class ClasspathResourceRepository {
     }
   }
 
+  /**
+   * Returns the roots of the classpath, i.e., the directories and the JAR files, of the system and
+   * the context class loader. The directories precede the JAR files, and otherwise the roots are in
+   * the order of the class loaders' look-up.
+   *
+   * @return The classpath roots.
+   */
+  public static List<Path> getClasspathRoots() {
+    var directories = new LinkedHashSet<Path>();
+    var jars = new LinkedHashSet<Path>();
+    var classLoaders = new LinkedHashSet<ClassLoader>();
+    classLoaders.add(ClassLoader.getSystemClassLoader());
+    Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+        .ifPresent(classLoaders::add);
+    try {
+      for (var classLoader : classLoaders) {
+        for (var url : Collections.list(classLoader.getResources(""))) {
+          toPath(url).filter(Files::isDirectory).ifPresent(directories::add);
+        }
+        for (var url : Collections.list(classLoader.getResources(MANIFEST))) {
+          if (url.getProtocol().equals(PROTOCOL_JAR)) {
+            jars.add(toJarPath(url));
+          }
+        }
+        if (classLoader instanceof URLClassLoader urlClassLoader) {
+          for (var url : urlClassLoader.getURLs()) {
+            toPath(url).ifPresent(path -> (Files.isDirectory(path) ? directories : jars).add(path));
+          }
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    var roots = new ArrayList<Path>(directories);
+    jars.stream().filter(Files::isRegularFile).forEach(roots::add);
+    return roots;
+  }
+
+  private static Optional<Path> toPath(URL url) {
+    if (!url.getProtocol().equals(PROTOCOL_FILE)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Path.of(url.toURI()));
+    } catch (URISyntaxException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  private static Path toJarPath(URL jarURL) {
+    var path = jarURL.getPath();
+    var separator = path.indexOf("!/");
+    try {
+      return Path.of(new URI(separator < 0 ? path : path.substring(0, separator)));
+    } catch (URISyntaxException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
   private void process(File file, String baseDir, ClassLoader classLoader, boolean recursive) {
     if (file.isFile() && isClassFile(file)) {
       Class<?> aClass = loadClass(file, baseDir, classLoader);
@@ -155,7 +220,7 @@ public class ClasspathResourceRepository {
     Arrays.stream(files).forEach(child -> {
       if (child.isDirectory()) {
         process(child, newBaseDir, classLoader, true);
-      } else {
+      } else if (isClassFile(child)) {
         Class<?> clazz = loadClass(child, newBaseDir, classLoader);
         if (!repo.contains(clazz)) {
           repo.add(clazz);
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.reflection;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Utility methods of the {@link Method} instances.
+ */
+public final class Methods {
+
+  private Methods() {
+  }
+
+  /**
+   * Returns the name of the method by its declaring class and its signature, e.g.,
+   * "com.acme.ReportService#render(java.lang.String,int)", which tells the overloads apart.
+   *
+   * @param method The method.
+   * @return The name of the method.
+   */
+  public static String getSignatureName(Method method) {
+    return Arrays.stream(method.getParameterTypes())
+        .map(Class::getTypeName)
+        .collect(Collectors.joining(",",
+            method.getDeclaringClass().getName() + "#" + method.getName() + "(", ")"));
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.string;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A prefix tree over strings. Lookups by key and by prefix take time proportional to the length
+ * of the key or the prefix, independent of the number of keys stored. The keys are enumerated in
+ * their lexicographical order. The trie is not thread-safe; instances which are shared between
+ * threads must not be modified after publication.
+ *
+ * @param <V> The type of the values.
+ */
+public class PrefixTrie<V> {
+
+  private final Node<V> root = new Node<>();
+  private int size;
+
+  /**
+   * Associates the value with the key.
+   *
+   * @param key   The key.
+   * @param value The value, which must not be null.
+   * @return The previous value associated with the key, or null.
+   */
+  public V put(String key, V value) {
+    var node = root;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.childOrCreate(key.charAt(i));
+    }
+    var previous = node.value;
+    node.value = value;
+    if (previous == null) {
+      size++;
+    }
+    return previous;
+  }
+
+  public V get(String key) {
+    var node = find(key);
+    return node == null ? null : node.value;
+  }
+
+  public boolean containsKey(String key) {
+    return get(key) != null;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the entries, of which keys start with the prefix given, in lexicographical order.
+   *
+   * @param prefix The key prefix.
+   * @return The matching entries.
+   */
+  public Map<String, V> withPrefix(String prefix) {
+    var result = new LinkedHashMap<String, V>();
+    forEachWithPrefix(prefix, result::put);
+    return result;
+  }
+
+  /**
+   * Calls the action for the entries, of which keys start with the prefix given, in
+   * lexicographical order.
+   *
+   * @param prefix The key prefix.
+   * @param action The action to call with the key and the value.
+   */
+  public void forEachWithPrefix(String prefix, BiConsumer<String, V> action) {
+    var node = find(prefix);
+    if (node != null) {
+      collect(node, new StringBuilder(prefix), action);
+    }
+  }
+
+  private void collect(Node<V> node, StringBuilder key, BiConsumer<String, V> action) {
+    if (node.value != null) {
+      action.accept(key.toString(), node.value);
+    }
+    for (int i = 0; i < node.size; i++) {
+      key.append(node.labels[i]);
+      collect(node.children[i], key, action);
+      key.setLength(key.length() - 1);
+    }
+  }
+
+  private Node<V> find(String key) {
+    var node = root;
+    for (int i = 0; i < key.length() && node != null; i++) {
+      node = node.child(key.charAt(i));
+    }
+    return node;
+  }
+
+  /**
+   * Trie node with the child nodes held in arrays sorted by their labels, which keeps the nodes
+   * compact and the enumeration ordered.
+   */
+  private static final class Node<V> {
+
+    private char[] labels = new char[0];
+    private Node<V>[] children = newArray(0);
+    private int size;
+    private V value;
+
+    private Node<V> child(char label) {
+      var index = Arrays.binarySearch(labels, 0, size, label);
+      return index >= 0 ? children[index] : null;
+    }
+
+    private Node<V> childOrCreate(char label) {
+      var index = Arrays.binarySearch(labels, 0, size, label);
+      if (index >= 0) {
+        return children[index];
+      }
+      var insertion = -index - 1;
+      if (size == labels.length) {
+        var capacity = Math.max(2, size * 2);
+        labels = Arrays.copyOf(labels, capacity);
+        children = Arrays.copyOf(children, capacity);
+      }
+      System.arraycopy(labels, insertion, labels, insertion + 1, size - insertion);
+      System.arraycopy(children, insertion, children, insertion + 1, size - insertion);
+      var child = new Node<V>();
+      labels[insertion] = label;
+      children[insertion] = child;
+      size++;
+      return child;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] newArray(int length) {
+      return (Node<V>[]) new Node<?>[length];
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import net.reevik.mikron.configuration.ConfigurationSnapshotCompiler;
+import net.reevik.mikron.configuration.PropertiesFileConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompiledConfigurationSnapshotTest {
+
+  @TempDir
+  Path configDir;
+
+  @Test
+  void testCompiledSnapshotIsEquivalentToSources() throws Exception {
+    Files.writeString(configDir.resolve("Shard.properties"), "db.pool.size=8\ndb.url=jdbc:x\n");
+    Files.writeString(configDir.resolve("Shard-1.properties"),
+        "shard=1\nname=\\u00dcn\\u00efcode\n");
+    Files.writeString(configDir.resolve("Shard-2.properties"), "shard=2\n");
+    Files.writeString(configDir.resolve("ShardRouter.properties"), "shard=0\n");
+    var sources = new PropertiesRepository(
+        List.of(new PropertiesFileConfigSource(List.of(configDir))));
+    var snapshotFile = configDir.resolve("config.snapshot");
+    ConfigurationSnapshotCompiler.compile(sources.getSnapshot(), snapshotFile);
+
+    try (var repository = PropertiesRepository.mapped(snapshotFile)) {
+      var snapshot = repository.getSnapshot();
+      assertThat(snapshot.getSourceNames()).isEqualTo(sources.getSnapshot().getSourceNames());
+      assertThat(snapshot.getValue("Shard", "db.pool.size")).isEqualTo("8");
+      assertThat(snapshot.getValue("Shard-1", "name")).isEqualTo("Ünïcode");
+      assertThat(snapshot.getValue("Shard-2", "name")).isNull();
+      assertThat(snapshot.getValue("Unknown", "shard")).isNull();
+      assertThat(snapshot.getInstanceSourceNames("Shard"))
+          .containsExactly("Shard", "Shard-1", "Shard-2");
+      assertThat(snapshot.getKeysWithPrefix("Shard", "db.")).containsExactly("db.pool.size",
+          "db.url");
+      for (var name : sources.getSnapshot().getSourceNames()) {
+        assertThat(repository.getConfiguration(name)).isEqualTo(sources.getConfiguration(name));
+      }
+    }
+  }
+}
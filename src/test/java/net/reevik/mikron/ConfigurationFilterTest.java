@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import net.reevik.mikron.configuration.ConfigurationFilter;
+import net.reevik.mikron.configuration.ConfigurationSnapshot;
+import net.reevik.mikron.configuration.PropertiesFileConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConfigurationFilterTest {
+
+  @TempDir
+  Path configDir;
+
+  private ConfigurationSnapshot snapshot;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Files.writeString(configDir.resolve("Shard-1.properties"), "region=eu\ntier=gold\n");
+    Files.writeString(configDir.resolve("Shard-2.properties"), "region=eu\ntier=silver\n");
+    Files.writeString(configDir.resolve("Shard-3.properties"), "region=us\ntier=gold\n");
+    Files.writeString(configDir.resolve("ShardRouter-0.properties"), "region=eu\n");
+    snapshot = new PropertiesRepository(
+        List.of(new PropertiesFileConfigSource(List.of(configDir)))).getSnapshot();
+  }
+
+  @Test
+  void testCompoundFilters() {
+    assertThat(ConfigurationFilter.parse("region=eu").findSource(snapshot, "Shard"))
+        .contains("Shard-1");
+    assertThat(ConfigurationFilter.parse("region=eu, tier=silver").findSource(snapshot, "Shard"))
+        .contains("Shard-2");
+    assertThat(ConfigurationFilter.parse("tier=gold,region!=eu").findSource(snapshot, "Shard"))
+        .contains("Shard-3");
+    assertThat(ConfigurationFilter.parse("tier!=gold").findSource(snapshot, "ShardRouter"))
+        .contains("ShardRouter-0");
+    assertThat(ConfigurationFilter.parse("region=ap").findSource(snapshot, "Shard")).isEmpty();
+    assertThat(snapshot.getSourceNamesWithValue("region", "eu"))
+        .containsExactlyInAnyOrder("Shard-1", "Shard-2", "ShardRouter-0");
+  }
+
+  @Test
+  void testMalformedFilter() {
+    assertThatThrownBy(() -> ConfigurationFilter.parse("region"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ConfigurationFilter.parse("=eu"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import net.reevik.mikron.annotation.Managed;
+import net.reevik.mikron.fixture.ClasspathFixtureGenerator;
+import net.reevik.mikron.fixture.ClasspathFixtureGenerator.Fixture;
+import net.reevik.mikron.fixture.ClasspathFixtureGenerator.Spec;
+import net.reevik.mikron.ioc.MikronContext;
+import net.reevik.mikron.reflection.ClasspathResourceRepository;
+import org.junit.jupiter.api.Test;
+
+public class LargeClasspathScanTest {
+
+  private static final Spec SPEC = Spec.defaults()
+      .withBasePackage("gen.scale")
+      .withBeans(300)
+      .withPackages(3, 3)
+      .withFanOut(3)
+      .withInterfaces(15)
+      .withInstances(20, 5);
+
+  @Test
+  void testScanGeneratedClasses() throws Exception {
+    var fixture = generate(SPEC);
+    try (var classLoader = fixture.classLoader()) {
+      var repository = withContextClassLoader(classLoader,
+          () -> ClasspathResourceRepository.of(new String[]{"gen.scale.*"}));
+      assertThat(repository.findClassesBy(Managed.class)).hasSize(300);
+      var rootContract = classLoader.loadClass("gen.scale.api.Contract0");
+      assertThat(repository.findImplementingClasses(rootContract, Managed.class)).hasSize(300);
+      assertThat(fixture.propertyFiles()).hasSize(100);
+    } finally {
+      fixture.delete();
+    }
+  }
+
+  @Test
+  void testScanGeneratedFatJar() throws Exception {
+    var fixture = generate(SPEC.withJar(true));
+    try (var classLoader = fixture.classLoader()) {
+      var repository = withContextClassLoader(classLoader,
+          () -> ClasspathResourceRepository.of(new String[]{"gen.scale.*"}));
+      assertThat(fixture.classpathEntry().toString()).endsWith(".jar");
+      assertThat(repository.findClassesBy(Managed.class)).hasSize(300);
+    } finally {
+      fixture.delete();
+    }
+  }
+
+  @Test
+  void testContextOnGeneratedClasses() throws Exception {
+    var fixture = generate(SPEC.withInstances(0, 0));
+    try (var classLoader = fixture.classLoader()) {
+      var applicationClass = classLoader.loadClass(fixture.applicationClass());
+      var context = withContextClassLoader(classLoader, () -> MikronContext.init(applicationClass));
+      assertThat(context.getManagedInstances()).hasSize(301);
+      assertThat(context.getInstance(fixture.beanNames().get(299))).isPresent();
+    } finally {
+      fixture.delete();
+    }
+  }
+
+  @Test
+  void testContextWithInstanceConfigurationsInFatJar() throws Exception {
+    var fixture = generate(SPEC.withJar(true));
+    try (var classLoader = fixture.classLoader()) {
+      var applicationClass = classLoader.loadClass(fixture.applicationClass());
+      var context = withContextClassLoader(classLoader, () -> MikronContext.init(applicationClass));
+      assertThat(context.getManagedInstances()).hasSize(300 - 20 + 20 * 5 + 1);
+      var instanceName = fixture.beanNames().get(0) + "-instance2";
+      assertThat(context.getConfiguration(instanceName))
+          .map(properties -> properties.getProperty("shard"))
+          .contains("2");
+      var instance = context.getManagedInstances().get(instanceName).getInstance();
+      assertThat(instance.getClass().getMethod("getValue").invoke(instance))
+          .isEqualTo(fixture.beanNames().get(0) + "-2");
+    } finally {
+      fixture.delete();
+    }
+  }
+
+  @Test
+  void testBulkInstanceCreationIntoInstanceGroups() throws Exception {
+    var fixture = generate(SPEC.withInstances(2, 200));
+    try (var classLoader = fixture.classLoader()) {
+      var applicationClass = classLoader.loadClass(fixture.applicationClass());
+      var context = withContextClassLoader(classLoader, () -> MikronContext.init(applicationClass));
+      assertThat(context.getManagedInstances()).hasSize(300 - 2 + 2 * 200 + 1);
+      var componentName = fixture.beanNames().get(1);
+      var group = context.getInstanceGroup(componentName).orElseThrow();
+      assertThat(group.size()).isEqualTo(200);
+      assertThat(group.getInstances()).containsOnlyKeys(IntStream.rangeClosed(1, 200)
+          .mapToObj(i -> componentName + "-instance" + i)
+          .toList());
+      var instance = group.get("instance17").orElseThrow();
+      assertThat(instance.getClass().getMethod("getValue").invoke(instance))
+          .isEqualTo(componentName + "-17");
+      assertThat(group.route("customer-42")).isSameAs(group.route("customer-42"));
+      assertThat(context.getInstanceGroup(fixture.beanNames().get(2))).isEmpty();
+    } finally {
+      fixture.delete();
+    }
+  }
+
+  private Fixture generate(Spec spec) throws Exception {
+    Path target = Files.createTempDirectory("mikron-fixture");
+    return new ClasspathFixtureGenerator(spec).generate(target);
+  }
+
+  private <T> T withContextClassLoader(ClassLoader classLoader, ThrowingSupplier<T> action)
+      throws Exception {
+    var thread = Thread.currentThread();
+    var previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try {
+      return action.get();
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ThrowingSupplier<T> {
+
+    T get() throws Exception;
+  }
+}
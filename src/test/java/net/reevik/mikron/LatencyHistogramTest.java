@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.stream.IntStream;
+import net.reevik.mikron.interceptor.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  void testQuantilesWithinRelativeError() {
+    var histogram = new LatencyHistogram();
+    for (long value = 1; value <= 100_000; value++) {
+      histogram.record(value * 1_000);
+    }
+    var snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount()).isEqualTo(100_000);
+    assertThat(snapshot.getMax()).isEqualTo(100_000_000);
+    assertThat(snapshot.getMean()).isCloseTo(50_000_500, within(1.0));
+    assertThat((double) snapshot.getValueAtQuantile(0.5)).isCloseTo(50_000_000, within(1.6e6));
+    assertThat((double) snapshot.getValueAtQuantile(0.99)).isCloseTo(99_000_000, within(3.1e6));
+    assertThat(snapshot.getValueAtQuantile(1.0)).isEqualTo(100_000_000);
+    assertThat(histogram.snapshot().getValueAtQuantile(0)).isEqualTo(1_000 + 7);
+  }
+
+  @Test
+  void testConcurrentRecording() {
+    var histogram = new LatencyHistogram();
+    IntStream.range(0, 8).parallel().forEach(thread -> {
+      for (int i = 0; i < 10_000; i++) {
+        histogram.record(i);
+      }
+    });
+    var snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount()).isEqualTo(80_000);
+    assertThat(snapshot.getMax()).isEqualTo(9_999);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import net.reevik.mikron.configuration.EnvironmentConfigSource;
+import net.reevik.mikron.configuration.FileConfigSource;
+import net.reevik.mikron.configuration.PropertiesFileConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.configuration.SystemPropertiesConfigSource;
+import net.reevik.mikron.configuration.YamlConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LayeredConfigurationTest {
+
+  @TempDir
+  Path configDir;
+
+  @Test
+  void testSourcesAreMergedByPrecedence() throws Exception {
+    Files.writeString(configDir.resolve("Layered.yml"), """
+        # pool settings
+        db:
+          pool:
+            size: 4
+            timeout: 100
+          hosts:
+            - "a.example.com"
+            - b.example.com
+        name: yaml
+        """);
+    Files.writeString(configDir.resolve("Layered.properties"), "db.pool.size=8\nname=file\n");
+    System.setProperty("mikron.Layered.name", "system");
+    try {
+      var repository = new PropertiesRepository(List.of(
+          new SystemPropertiesConfigSource(),
+          new PropertiesFileConfigSource(List.of(configDir)),
+          new YamlConfigSource(List.of(configDir)),
+          new EnvironmentConfigSource(Map.of("MIKRON_LAYERED_DB_POOL_TIMEOUT", "200"))));
+
+      var configuration = repository.getConfiguration("Layered").orElseThrow();
+      assertThat(configuration.getProperty("db.pool.size")).isEqualTo("8");
+      assertThat(configuration.getProperty("db.pool.timeout")).isEqualTo("200");
+      assertThat(configuration.getProperty("db.hosts[0]")).isEqualTo("a.example.com");
+      assertThat(configuration.getProperty("db.hosts[1]")).isEqualTo("b.example.com");
+      assertThat(configuration.getProperty("name")).isEqualTo("system");
+      assertThat(repository.getSnapshot().getKeysWithPrefix("Layered", "db.pool."))
+          .containsExactly("db.pool.size", "db.pool.timeout");
+    } finally {
+      System.clearProperty("mikron.Layered.name");
+    }
+  }
+
+  @Test
+  void testInstanceSourcesAreResolvedByName() throws Exception {
+    for (var name : List.of("Shard", "Shard-1", "Shard-2", "ShardRouter", "ShardRouter-1")) {
+      Files.writeString(configDir.resolve(name + ".properties"), "name=" + name);
+    }
+    var repository = new PropertiesRepository(
+        List.of(new PropertiesFileConfigSource(List.of(configDir))));
+
+    assertThat(repository.getSnapshot().getInstanceSourceNames("Shard"))
+        .containsExactly("Shard", "Shard-1", "Shard-2");
+    assertThat(repository.getConfiguration("ShardRouter-1"))
+        .map((Properties properties) -> properties.getProperty("name"))
+        .contains("ShardRouter-1");
+  }
+
+  @Test
+  void testFirstRootWinsAcrossDirectoriesAndJars() throws Exception {
+    var externalDir = Files.createDirectory(configDir.resolve("external"));
+    Files.writeString(externalDir.resolve("Packaged.properties"), "timeout=1");
+    var jar = configDir.resolve("config.jar");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("Packaged.properties"));
+      out.write("timeout=2\nretries=3".getBytes(StandardCharsets.ISO_8859_1));
+      out.putNextEntry(new JarEntry("PackagedOnly.properties"));
+      out.write("retries=5".getBytes(StandardCharsets.ISO_8859_1));
+      out.putNextEntry(new JarEntry("nested/Nested.properties"));
+      out.write("retries=7".getBytes(StandardCharsets.ISO_8859_1));
+    }
+    var repository = new PropertiesRepository(
+        List.of(new PropertiesFileConfigSource(List.of(externalDir, jar))));
+
+    assertThat(repository.getConfiguration("Packaged"))
+        .map((Properties properties) -> properties.getProperty("timeout"))
+        .contains("1");
+    assertThat(repository.getConfiguration("PackagedOnly")).isPresent();
+    assertThat(repository.getConfiguration("Nested")).isEmpty();
+  }
+
+  @Test
+  void testOnlyMarkedJarsOnClasspathAreRead() throws Exception {
+    var markedJar = writeJar("marked.jar", "Marked.properties", true);
+    var strayJar = writeJar("stray.jar", "Stray.properties", false);
+    var thread = Thread.currentThread();
+    var previous = thread.getContextClassLoader();
+    try (var classLoader = new URLClassLoader(new URL[]{markedJar.toUri().toURL(),
+        strayJar.toUri().toURL()}, previous)) {
+      thread.setContextClassLoader(classLoader);
+      var repository = new PropertiesRepository(PropertiesRepository.defaultSources());
+      assertThat(repository.getConfiguration("Marked")).isPresent();
+      assertThat(repository.getConfiguration("Stray")).isEmpty();
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  private Path writeJar(String name, String entryName, boolean marked) throws Exception {
+    var manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    if (marked) {
+      manifest.getMainAttributes().putValue(FileConfigSource.CONFIGURATION_ATTRIBUTE, "true");
+    }
+    var jar = configDir.resolve(name);
+    try (var out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+      out.putNextEntry(new JarEntry(entryName));
+      out.write("retries=5".getBytes(StandardCharsets.ISO_8859_1));
+    }
+    return jar;
+  }
+}
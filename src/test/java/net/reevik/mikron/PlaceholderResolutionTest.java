@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import net.reevik.mikron.configuration.CyclicPlaceholderException;
+import net.reevik.mikron.configuration.PropertiesFileConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PlaceholderResolutionTest {
+
+  @TempDir
+  Path configDir;
+
+  @Test
+  void testPlaceholdersAreExpanded() throws Exception {
+    Files.writeString(configDir.resolve("Database.properties"), """
+        host=db.example.com
+        port=${db.port:5432}
+        url=jdbc:postgresql://${host}:${port}/${name:${host}}
+        path=${env:PATH}
+        user=${env:MIKRON_UNDEFINED_VARIABLE:admin}
+        unresolved=${undefined}
+        """);
+    var snapshot = repository().getSnapshot();
+
+    assertThat(snapshot.getResolvedValue("Database", "port")).isEqualTo("5432");
+    assertThat(snapshot.getResolvedValue("Database", "url"))
+        .isEqualTo("jdbc:postgresql://db.example.com:5432/db.example.com");
+    assertThat(snapshot.getResolvedValue("Database", "path")).isEqualTo(System.getenv("PATH"));
+    assertThat(snapshot.getResolvedValue("Database", "user")).isEqualTo("admin");
+    assertThat(snapshot.getResolvedValue("Database", "unresolved")).isEqualTo("${undefined}");
+    assertThat(snapshot.getValue("Database", "port")).isEqualTo("${db.port:5432}");
+    assertThat(snapshot.getResolvedValue("Database", "url"))
+        .isSameAs(snapshot.getResolvedValue("Database", "url"));
+  }
+
+  @Test
+  void testCyclicPlaceholdersAreDetected() throws Exception {
+    Files.writeString(configDir.resolve("Cyclic.properties"), "a=${b}\nb=x${c}\nc=${a}\n");
+    var snapshot = repository().getSnapshot();
+
+    assertThatThrownBy(() -> snapshot.getResolvedValue("Cyclic", "a"))
+        .isInstanceOf(CyclicPlaceholderException.class)
+        .hasMessageContaining("a -> b -> c -> a");
+  }
+
+  private PropertiesRepository repository() {
+    return new PropertiesRepository(List.of(new PropertiesFileConfigSource(List.of(configDir))));
+  }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.fixture;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import javax.tools.ToolProvider;
+import net.reevik.mikron.annotation.Managed;
+import net.reevik.mikron.configuration.FileConfigSource;
+
+/**
+ * Generates synthetic classpaths to exercise the scanning, configuration and wiring of the Mikron
+ * context at scale. A fixture consists of managed classes spread over a package tree, an interface
+ * hierarchy they implement, {@code *-instanceN.properties} files for multi-instance managed classes
+ * and a {@code @ManagedApplication} class to start the context with. The generated sources are
+ * compiled with the system Java compiler, and optionally packed into a single fat JAR.
+ * <p>
+ * The generator can be run from the command line, e.g., to prepare fixtures for benchmarks:
+ * <pre>
+ *   java ClasspathFixtureGenerator target/fixture beans=10000 fanOut=4 instanceBeans=500
+ * </pre>
+ */
+public class ClasspathFixtureGenerator {
+
+  public static final String APPLICATION_CLASS = "Application";
+  private static final String BEAN_PREFIX = "Bean";
+  private static final String INTERFACE_PREFIX = "Contract";
+
+  private final Spec spec;
+
+  public ClasspathFixtureGenerator(Spec spec) {
+    this.spec = spec;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      throw new IllegalArgumentException("Usage: ClasspathFixtureGenerator <target> [key=value]*");
+    }
+    var spec = Spec.defaults();
+    for (int i = 1; i < args.length; i++) {
+      var keyValue = args[i].split("=", 2);
+      spec = spec.with(keyValue[0], keyValue[1]);
+    }
+    var fixture = new ClasspathFixtureGenerator(spec).generate(Path.of(args[0]));
+    System.out.println("Generated " + fixture.beanNames().size() + " managed classes and "
+        + fixture.propertyFiles().size() + " property files into " + fixture.classpathEntry());
+  }
+
+  /**
+   * Generates the fixture into the target directory. Sources go into "src", the compiled classes
+   * and properties into "classes", and if requested, the fat JAR into "fixture.jar".
+   *
+   * @param target The directory where the fixture is generated.
+   * @return The generated fixture.
+   * @throws IOException If the fixture cannot be written.
+   */
+  public Fixture generate(Path target) throws IOException {
+    var sources = target.resolve("src");
+    var classes = target.resolve("classes");
+    Files.createDirectories(sources);
+    Files.createDirectories(classes);
+
+    var sourceFiles = new ArrayList<Path>();
+    for (int i = 0; i < spec.interfaces(); i++) {
+      sourceFiles.add(write(sources, interfaceClassName(i), interfaceSource(i)));
+    }
+    var beanNames = new ArrayList<String>();
+    for (int i = 0; i < spec.beans(); i++) {
+      sourceFiles.add(write(sources, beanClassName(i), beanSource(i)));
+      beanNames.add(beanName(i));
+    }
+    sourceFiles.add(write(sources, spec.basePackage() + "." + APPLICATION_CLASS,
+        applicationSource()));
+    compile(sourceFiles, classes);
+
+    var propertyFiles = new ArrayList<String>();
+    for (int i = 0; i < Math.min(spec.instanceBeans(), spec.beans()); i++) {
+      for (int instance = 1; instance <= spec.instancesPerBean(); instance++) {
+        var fileName = instanceName(i, instance) + ".properties";
+        Files.writeString(classes.resolve(fileName),
+            "shard=" + instance + "\nvalue=" + beanName(i) + "-" + instance + "\n");
+        propertyFiles.add(fileName);
+      }
+    }
+
+    var classpathEntry = spec.jar() ? pack(classes, target.resolve("fixture.jar")) : classes;
+    return new Fixture(target, classpathEntry, spec.basePackage() + "." + APPLICATION_CLASS,
+        beanNames, propertyFiles);
+  }
+
+  private Path write(Path sources, String className, String source) throws IOException {
+    var file = sources.resolve(className.replace('.', File.separatorChar) + ".java");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, source);
+    return file;
+  }
+
+  private void compile(List<Path> sourceFiles, Path classes) throws IOException {
+    var compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("Fixture generation requires a JDK with a Java compiler.");
+    }
+    var annotationsLocation = Path.of(
+        Managed.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+    try (var fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      var options = List.of("-d", classes.toString(), "-classpath",
+          annotationsLocation.toString(), "-proc:none");
+      var units = fileManager.getJavaFileObjectsFromPaths(sourceFiles);
+      var success = compiler.getTask(null, fileManager, null, options, null, units).call();
+      if (!Boolean.TRUE.equals(success)) {
+        throw new IllegalStateException("Cannot compile the generated fixture sources.");
+      }
+    }
+  }
+
+  private Path pack(Path classes, Path jar) throws IOException {
+    var directories = new HashSet<String>();
+    var manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    manifest.getMainAttributes().putValue(FileConfigSource.CONFIGURATION_ATTRIBUTE, "true");
+    try (var out = new JarOutputStream(Files.newOutputStream(jar), manifest);
+        Stream<Path> files = Files.walk(classes)) {
+      for (var file : files.filter(Files::isRegularFile).sorted().toList()) {
+        var entryName = classes.relativize(file).toString().replace(File.separatorChar, '/');
+        putDirectories(out, entryName, directories);
+        out.putNextEntry(new JarEntry(entryName));
+        Files.copy(file, out);
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  /**
+   * Directory entries must be present in the JAR, otherwise the class loaders cannot resolve the
+   * package directories the classpath scan starts from.
+   */
+  private void putDirectories(JarOutputStream out, String entryName, Set<String> directories)
+      throws IOException {
+    var index = entryName.indexOf('/');
+    while (index > 0) {
+      var directory = entryName.substring(0, index + 1);
+      if (directories.add(directory)) {
+        out.putNextEntry(new JarEntry(directory));
+        out.closeEntry();
+      }
+      index = entryName.indexOf('/', index + 1);
+    }
+  }
+
+  private String interfaceSource(int i) {
+    var pkg = spec.basePackage() + ".api";
+    var parent = i == 0 ? "" : " extends " + interfaceClassName((i - 1) / 2);
+    return "package " + pkg + ";\n\npublic interface " + INTERFACE_PREFIX + i + parent + " {\n"
+        + "  default int contract" + i + "() {\n    return " + i + ";\n  }\n}\n";
+  }
+
+  private String beanSource(int i) {
+    var className = beanClassName(i);
+    var pkg = className.substring(0, className.lastIndexOf('.'));
+    var source = new StringBuilder();
+    source.append("package ").append(pkg).append(";\n\n")
+        .append("import net.reevik.mikron.annotation.Configurable;\n")
+        .append("import net.reevik.mikron.annotation.Managed;\n")
+        .append("import net.reevik.mikron.annotation.Wire;\n\n")
+        .append("@Managed(name = \"").append(beanName(i)).append("\")\n")
+        .append("public class ").append(beanName(i));
+    if (spec.interfaces() > 0) {
+      source.append(" implements ").append(interfaceClassName(i % spec.interfaces()));
+    }
+    source.append(" {\n\n");
+    for (int dependency = i - 1; dependency >= Math.max(0, i - spec.fanOut()); dependency--) {
+      source.append("  @Wire(name = \"").append(beanName(dependency)).append('"');
+      if (isMultiInstance(dependency)) {
+        source.append(", filter = \"shard=1\"");
+      }
+      source.append(")\n  private ").append(beanClassName(dependency))
+          .append(" dependency").append(dependency).append(";\n\n");
+    }
+    source.append("  @Configurable(name = \"value\")\n  private String value;\n\n")
+        .append("  public String getValue() {\n    return value;\n  }\n}\n");
+    return source.toString();
+  }
+
+  private String applicationSource() {
+    return "package " + spec.basePackage() + ";\n\n"
+        + "import net.reevik.mikron.annotation.ManagedApplication;\n\n"
+        + "@ManagedApplication(packages = {\"" + spec.basePackage() + ".*\"})\n"
+        + "public class " + APPLICATION_CLASS + " {\n}\n";
+  }
+
+  private boolean isMultiInstance(int i) {
+    return i < spec.instanceBeans() && spec.instancesPerBean() > 0;
+  }
+
+  private String interfaceClassName(int i) {
+    return spec.basePackage() + ".api." + INTERFACE_PREFIX + i;
+  }
+
+  private String beanClassName(int i) {
+    var pkg = new StringBuilder(spec.basePackage());
+    var bucket = i;
+    for (int level = 0; level < spec.packageDepth(); level++) {
+      pkg.append(".p").append(bucket % spec.packageWidth());
+      bucket /= spec.packageWidth();
+    }
+    return pkg + "." + beanName(i);
+  }
+
+  /**
+   * Bean names are zero-padded so that no bean name is the prefix of another.
+   */
+  private String beanName(int i) {
+    var digits = Integer.toString(Math.max(spec.beans() - 1, 0)).length();
+    return BEAN_PREFIX + String.format("%0" + digits + "d", i);
+  }
+
+  private String instanceName(int i, int instance) {
+    return beanName(i) + "-instance" + instance;
+  }
+
+  /**
+   * The fixture specification.
+   *
+   * @param basePackage      The root package of the generated classes.
+   * @param beans            The number of managed classes.
+   * @param packageDepth     The depth of the package tree below the base package.
+   * @param packageWidth     The number of sub-packages per package level.
+   * @param fanOut           The number of dependencies wired into every managed class.
+   * @param interfaces       The number of interfaces in the hierarchy, the managed classes
+   *                         implement.
+   * @param instanceBeans    The number of managed classes with multiple instances by property
+   *                         files.
+   * @param instancesPerBean The number of instance property files per multi-instance class.
+   * @param jar              Whether the fixture is packed into a fat JAR.
+   */
+  public record Spec(String basePackage, int beans, int packageDepth, int packageWidth,
+                     int fanOut, int interfaces, int instanceBeans, int instancesPerBean,
+                     boolean jar) {
+
+    public static Spec defaults() {
+      return new Spec("gen", 100, 2, 4, 2, 8, 10, 3, false);
+    }
+
+    public Spec withBasePackage(String basePackage) {
+      return new Spec(basePackage, beans, packageDepth, packageWidth, fanOut, interfaces,
+          instanceBeans, instancesPerBean, jar);
+    }
+
+    public Spec withBeans(int beans) {
+      return new Spec(basePackage, beans, packageDepth, packageWidth, fanOut, interfaces,
+          instanceBeans, instancesPerBean, jar);
+    }
+
+    public Spec withPackages(int packageDepth, int packageWidth) {
+      return new Spec(basePackage, beans, packageDepth, packageWidth, fanOut, interfaces,
+          instanceBeans, instancesPerBean, jar);
+    }
+
+    public Spec withFanOut(int fanOut) {
+      return new Spec(basePackage, beans, packageDepth, packageWidth, fanOut, interfaces,
+          instanceBeans, instancesPerBean, jar);
+    }
+
+    public Spec withInterfaces(int interfaces) {
+      return new Spec(basePackage, beans, packageDepth, packageWidth, fanOut, interfaces,
+          instanceBeans, instancesPerBean, jar);
+    }
+
+    public Spec withInstances(int instanceBeans, int instancesPerBean) {
+      return new Spec(basePackage, beans, packageDepth, packageWidth, fanOut, interfaces,
+          instanceBeans, instancesPerBean, jar);
+    }
+
+    public Spec withJar(boolean jar) {
+      return new Spec(basePackage, beans, packageDepth, packageWidth, fanOut, interfaces,
+          instanceBeans, instancesPerBean, jar);
+    }
+
+    Spec with(String key, String value) {
+      return switch (key) {
+        case "basePackage" -> withBasePackage(value);
+        case "beans" -> withBeans(Integer.parseInt(value));
+        case "packageDepth" -> withPackages(Integer.parseInt(value), packageWidth);
+        case "packageWidth" -> withPackages(packageDepth, Integer.parseInt(value));
+        case "fanOut" -> withFanOut(Integer.parseInt(value));
+        case "interfaces" -> withInterfaces(Integer.parseInt(value));
+        case "instanceBeans" -> withInstances(Integer.parseInt(value), instancesPerBean);
+        case "instancesPerBean" -> withInstances(instanceBeans, Integer.parseInt(value));
+        case "jar" -> withJar(Boolean.parseBoolean(value));
+        default -> throw new IllegalArgumentException("Unknown fixture parameter: " + key);
+      };
+    }
+  }
+
+  /**
+   * A generated fixture.
+   *
+   * @param root             The directory, the fixture is generated into.
+   * @param classpathEntry   The classes directory or the fat JAR to put on the classpath.
+   * @param applicationClass The name of the {@code @ManagedApplication} class.
+   * @param beanNames        The names of the generated managed classes.
+   * @param propertyFiles    The names of the generated property files.
+   */
+  public record Fixture(Path root, Path classpathEntry, String applicationClass,
+                        List<String> beanNames, List<String> propertyFiles) {
+
+    /**
+     * Creates a new class loader for the fixture. The class loader of the generator is the
+     * parent, so the Mikron annotations are shared with the fixture classes.
+     *
+     * @return A new class loader.
+     */
+    public URLClassLoader classLoader() {
+      try {
+        return new URLClassLoader(new URL[]{classpathEntry.toUri().toURL()},
+            ClasspathFixtureGenerator.class.getClassLoader());
+      } catch (MalformedURLException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Deletes the fixture from the file system.
+     */
+    public void delete() {
+      try (Stream<Path> files = Files.walk(root)) {
+        files.sorted((left, right) -> right.compareTo(left))
+            .forEach(path -> path.toFile().delete());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test12;
+
+import java.time.Duration;
+import net.reevik.mikron.annotation.Configurable;
+import net.reevik.mikron.annotation.Managed;
+
+@Managed(name = "ConvertedConfiguration")
+public class ConvertedConfiguration {
+
+  @Configurable(name = "timeout")
+  private Duration timeout;
+
+  @Configurable(name = "retries")
+  private int retries;
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  public int getRetries() {
+    return retries;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test12;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import net.reevik.mikron.annotation.ManagedApplication;
+import net.reevik.mikron.annotation.ManagedTest;
+import net.reevik.mikron.annotation.Wire;
+import net.reevik.mikron.configuration.DefaultTypeConverter;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+@ManagedApplication(packages = {"net.reevik.mikron.test12.*"})
+@ManagedTest
+public class ConverterRegistryTest {
+
+  @Wire
+  private MikronContext context;
+
+  @Wire(name = "ConvertedConfiguration")
+  private ConvertedConfiguration configuration;
+
+  @Test
+  void testServiceLoadedConversion() {
+    assertThat(configuration.getTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(configuration.getRetries()).isEqualTo(3);
+  }
+
+  @Test
+  void testConvertersAreShared() {
+    var registry = context.getConverterRegistry();
+    var converter = registry.getConverter(Duration.class, DefaultTypeConverter.class);
+    assertThat(registry.getConverter(Duration.class, DefaultTypeConverter.class))
+        .isSameAs(converter);
+    assertThat(registry.getConverter(int.class, DefaultTypeConverter.class))
+        .isNotSameAs(converter);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test13;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import net.reevik.mikron.annotation.ManagedApplication;
+import net.reevik.mikron.configuration.ConfigurationChange;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@ManagedApplication(packages = {"net.reevik.mikron.test13.*"})
+public class ConfigurationReloadTest {
+
+  private Path configFile;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var classpathRoot = Path.of(ConfigurationReloadTest.class.getResource("/").toURI());
+    configFile = classpathRoot.resolve("ReloadableConfiguration.properties");
+    Files.writeString(configFile, "pool.size=4\ntimeout=100\nlimit=10\npattern=[a-z]+\n");
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    Files.deleteIfExists(configFile);
+  }
+
+  @Test
+  void testReloadRebindsChangedFields() throws Exception {
+    try (var context = MikronContext.init(ConfigurationReloadTest.class)) {
+      var changes = new LinkedBlockingQueue<ConfigurationChange>();
+      context.getPropertiesRepository().addChangeListener(changes::add);
+      context.watchConfigurations();
+      ReloadableConfiguration instance = context.<ReloadableConfiguration>getInstance(
+          "ReloadableConfiguration").orElseThrow();
+      assertThat(instance.getPoolSize()).isEqualTo(4);
+      assertThat(instance.getPattern().pattern()).isEqualTo("[a-z]+");
+      instance.setTimeout(42);
+
+      Files.writeString(configFile, "pool.size=8\ntimeout=100\nlimit=10\npattern=[0-9]+\n");
+
+      var change = changes.poll(30, TimeUnit.SECONDS);
+      assertThat(change).isNotNull();
+      assertThat(change.source()).isEqualTo("ReloadableConfiguration");
+      assertThat(change.changedKeys()).containsExactlyInAnyOrder("pool.size", "pattern");
+      assertThat(instance.getPattern().matcher("42").matches()).isTrue();
+      assertThat(instance.getPoolSize()).isEqualTo(8);
+      assertThat(instance.getTimeout()).isEqualTo(42);
+      assertThat(context.getConfiguration("ReloadableConfiguration"))
+          .map(properties -> properties.getProperty("pool.size"))
+          .contains("8");
+    }
+  }
+
+  @Test
+  void testRemovedKeyKeepsBoundValue() throws Exception {
+    try (var context = MikronContext.init(ConfigurationReloadTest.class)) {
+      var changes = new LinkedBlockingQueue<ConfigurationChange>();
+      context.getPropertiesRepository().addChangeListener(changes::add);
+      context.watchConfigurations();
+      ReloadableConfiguration instance = context.<ReloadableConfiguration>getInstance(
+          "ReloadableConfiguration").orElseThrow();
+
+      Files.writeString(configFile, "timeout=200\nlimit=10\npattern=[a-z]+\n");
+
+      var change = changes.poll(30, TimeUnit.SECONDS);
+      assertThat(change).isNotNull();
+      assertThat(change.changedKeys()).contains("pool.size", "timeout");
+      assertThat(change.snapshot().getResolvedValue("ReloadableConfiguration", "timeout"))
+          .isEqualTo("200");
+      assertThat(instance.getTimeout()).isEqualTo(200);
+      assertThat(instance.getPoolSize()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  void testReloadUpdatesConfigValues() throws Exception {
+    try (var context = MikronContext.init(ConfigurationReloadTest.class)) {
+      context.watchConfigurations();
+      ReloadableConfiguration instance = context.<ReloadableConfiguration>getInstance(
+          "ReloadableConfiguration").orElseThrow();
+      var limit = instance.getLimit();
+      var updates = new LinkedBlockingQueue<List<Integer>>();
+      limit.addListener((oldValue, newValue) -> updates.add(List.of(oldValue, newValue)));
+      assertThat(limit.get()).isEqualTo(10);
+
+      Files.writeString(configFile, "pool.size=4\ntimeout=100\nlimit=20\npattern=[a-z]+\n");
+
+      assertThat(updates.poll(30, TimeUnit.SECONDS)).containsExactly(10, 20);
+      assertThat(instance.getLimit()).isSameAs(limit);
+      assertThat(limit.get()).isEqualTo(20);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test13;
+
+import java.util.regex.Pattern;
+import net.reevik.mikron.annotation.Configurable;
+import net.reevik.mikron.annotation.Managed;
+import net.reevik.mikron.configuration.ConfigValue;
+
+@Managed(name = "ReloadableConfiguration")
+public class ReloadableConfiguration {
+
+  @Configurable(name = "pool.size")
+  private volatile int poolSize;
+
+  @Configurable(name = "timeout")
+  private volatile int timeout;
+
+  @Configurable(name = "limit")
+  private ConfigValue<Integer> limit;
+
+  private volatile Pattern pattern;
+
+  @Configurable(name = "pattern")
+  void setPattern(String regex) {
+    this.pattern = Pattern.compile(regex);
+  }
+
+  public Pattern getPattern() {
+    return pattern;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public ConfigValue<Integer> getLimit() {
+    return limit;
+  }
+
+  public int getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(int timeout) {
+    this.timeout = timeout;
+  }
+}
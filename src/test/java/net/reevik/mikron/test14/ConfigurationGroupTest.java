@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test14;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import net.reevik.mikron.annotation.ManagedApplication;
+import net.reevik.mikron.annotation.ManagedTest;
+import net.reevik.mikron.annotation.Wire;
+import net.reevik.mikron.configuration.ConfigSource;
+import net.reevik.mikron.configuration.ConfigurationObjectBinder;
+import net.reevik.mikron.configuration.ConfigurationSnapshot;
+import net.reevik.mikron.configuration.ConverterRegistry;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.test14.PoolSettings.Endpoint;
+import net.reevik.mikron.test14.PoolSettings.Mode;
+import org.junit.jupiter.api.Test;
+
+@ManagedApplication(packages = {"net.reevik.mikron.test14.*"})
+@ManagedTest
+public class ConfigurationGroupTest {
+
+  @Wire(name = "PooledClient")
+  private PooledClient client;
+
+  @Test
+  void testRecordIsBoundFromPrefix() {
+    var pool = client.getPool();
+    assertThat(pool.size()).isEqualTo(16);
+    assertThat(pool.idleTimeout()).isEqualTo(5000L);
+    assertThat(pool.fair()).isFalse();
+    assertThat(pool.mode()).isEqualTo(Mode.FIFO);
+    assertThat(pool.hosts()).containsExactly("a.example.com", "b.example.com");
+    assertThat(pool.ports()).containsExactly(5432, 5433);
+    assertThat(pool.endpoints()).containsExactly(
+        Map.entry("read", new Endpoint("jdbc:read", 100)),
+        Map.entry("write", new Endpoint("jdbc:write", 200)));
+    assertThat(pool.labels()).containsExactly(Map.entry("team", "storage"),
+        Map.entry("tier.level", "gold"));
+    assertThatThrownBy(() -> pool.hosts().add("c.example.com"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void testPojoIsBoundFromPrefix() {
+    assertThat(client.getRetry().getAttempts()).isEqualTo(5);
+    assertThat(client.getRetry().getBackoff()).isEqualTo(100L);
+  }
+
+  @Test
+  void testRebindingDoesNotModifySharedPojo() {
+    var binder = new ConfigurationObjectBinder(new ConverterRegistry());
+    var first = (RetrySettings) binder.bind(snapshotOf("5"), "Client", "db.retry",
+        RetrySettings.class);
+    var second = (RetrySettings) binder.bind(snapshotOf("7"), "Client", "db.retry",
+        RetrySettings.class);
+    assertThat(second).isNotSameAs(first);
+    assertThat(first.getAttempts()).isEqualTo(5);
+    assertThat(second.getAttempts()).isEqualTo(7);
+  }
+
+  private static ConfigurationSnapshot snapshotOf(String attempts) {
+    var properties = new Properties();
+    properties.setProperty("db.retry.attempts", attempts);
+    var source = new ConfigSource() {
+
+      @Override
+      public int getOrdinal() {
+        return PROPERTIES_ORDINAL;
+      }
+
+      @Override
+      public void load() {
+      }
+
+      @Override
+      public Set<String> getSourceNames() {
+        return Set.of("Client");
+      }
+
+      @Override
+      public Optional<Properties> getConfiguration(String name) {
+        return getSourceNames().contains(name) ? Optional.of(properties) : Optional.empty();
+      }
+    };
+    return new PropertiesRepository(List.of(source)).getSnapshot();
+  }
+
+  @Test
+  void testUnconfiguredGroupIsNotBound() {
+    assertThat(client.getUnconfigured()).isNull();
+  }
+}
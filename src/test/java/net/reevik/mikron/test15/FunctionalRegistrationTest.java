@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test15;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import net.reevik.mikron.annotation.ManagedApplication;
+import net.reevik.mikron.configuration.ConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.ioc.CyclicDependencyException;
+import net.reevik.mikron.ioc.IllegalWiringException;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+@ManagedApplication(packages = {"net.reevik.mikron.test12.*"})
+public class FunctionalRegistrationTest {
+
+  @Test
+  void testFunctionalContextWithoutScanning() {
+    var repositoryName = GreetingRepository.class.getName();
+    try (var context = MikronContext.builder()
+        .propertiesRepository(new PropertiesRepository(List.of(new GreetingSource())))
+        .register("GreetingService", GreetingService.class, ctx -> new GreetingService(
+            ctx.<GreetingRepository>getInstance(repositoryName).orElseThrow()))
+        .dependsOn("GreetingService", repositoryName)
+        .register(GreetingRepository.class, GreetingRepository::new)
+        .build()) {
+      GreetingService service = context.<GreetingService>getInstance("GreetingService")
+          .orElseThrow();
+      assertThat(service.greet("Mikron")).isEqualTo("Hello, Mikron");
+      GreetingRepository repository = context.<GreetingRepository>getInstance(repositoryName)
+          .orElseThrow();
+      assertThat(repository.isInitialized()).isTrue();
+      assertThat(service.getConfiguration()).isNull();
+      assertThat(context.getManagedInstances()).hasSize(3);
+    }
+  }
+
+  @Test
+  void testFunctionalAndScannedInstances() {
+    try (var context = MikronContext.builder()
+        .scan(FunctionalRegistrationTest.class)
+        .register("GreetingService", GreetingService.class,
+            ctx -> new GreetingService(new GreetingRepository()))
+        .build()) {
+      GreetingService service = context.<GreetingService>getInstance("GreetingService")
+          .orElseThrow();
+      assertThat(service.getConfiguration()).isNotNull();
+      assertThat(service.getConfiguration().getRetries()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void testUnknownDependency() {
+    var builder = MikronContext.builder()
+        .register("GreetingService", GreetingService.class,
+            ctx -> new GreetingService(new GreetingRepository()))
+        .dependsOn("GreetingService", "UnknownRepository");
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalWiringException.class);
+  }
+
+  @Test
+  void testCyclicDependencyIsReportedBeforeInstantiation() {
+    var builder = MikronContext.builder()
+        .register("GreetingService", GreetingService.class,
+            ctx -> new GreetingService(ctx.<GreetingRepository>getInstance("GreetingRepository")
+                .orElseThrow()))
+        .dependsOn("GreetingService", "GreetingRepository")
+        .register("GreetingRepository", GreetingRepository.class, ctx -> {
+          throw new AssertionError("Shouldn't be instantiated.");
+        })
+        .dependsOn("GreetingRepository", "GreetingCache")
+        .register("GreetingCache", GreetingRepository.class, ctx -> new GreetingRepository())
+        .dependsOn("GreetingCache", "GreetingService");
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(CyclicDependencyException.class)
+        .hasMessageEndingWith("GreetingService -> GreetingRepository -> GreetingCache -> "
+            + "GreetingService")
+        .extracting(e -> ((CyclicDependencyException) e).getCycle())
+        .asList()
+        .hasSize(4);
+  }
+
+  private static class GreetingSource implements ConfigSource {
+
+    @Override
+    public int getOrdinal() {
+      return PROPERTIES_ORDINAL;
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public Set<String> getSourceNames() {
+      return Set.of(GreetingRepository.class.getName());
+    }
+
+    @Override
+    public Optional<Properties> getConfiguration(String name) {
+      if (!getSourceNames().contains(name)) {
+        return Optional.empty();
+      }
+      var properties = new Properties();
+      properties.setProperty("greeting", "Hello");
+      return Optional.of(properties);
+    }
+  }
+}
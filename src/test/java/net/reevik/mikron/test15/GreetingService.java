@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test15;
+
+import net.reevik.mikron.annotation.Wire;
+import net.reevik.mikron.test12.ConvertedConfiguration;
+
+public class GreetingService {
+
+  private final GreetingRepository repository;
+
+  @Wire(name = "ConvertedConfiguration")
+  private ConvertedConfiguration configuration;
+
+  public GreetingService(GreetingRepository repository) {
+    this.repository = repository;
+  }
+
+  public String greet(String name) {
+    return repository.getGreeting() + ", " + name;
+  }
+
+  public ConvertedConfiguration getConfiguration() {
+    return configuration;
+  }
+}
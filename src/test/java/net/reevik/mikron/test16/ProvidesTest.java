@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test16;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.ExecutorService;
+import net.reevik.mikron.annotation.ManagedApplication;
+import net.reevik.mikron.ioc.IllegalManagedTypeException;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+@ManagedApplication(packages = {"net.reevik.mikron.test16.*"})
+public class ProvidesTest {
+
+  @Test
+  void testProvidedInstancesAreRegistered() {
+    try (var context = MikronContext.init(ProvidesTest.class)) {
+      ResourceConsumer consumer = context.<ResourceConsumer>getInstance("ResourceConsumer")
+          .orElseThrow();
+      assertThat(consumer.isValidId("order-42")).isTrue();
+      assertThat(consumer.isValidId("42")).isFalse();
+      ExecutorService workerPool = context.<ExecutorService>getInstance("workerPool")
+          .orElseThrow();
+      assertThat(context.getInstance("workerPool")).containsSame(workerPool);
+      workerPool.shutdown();
+    }
+  }
+
+  @Test
+  void testLazyProvidedInstanceIsCreatedOnRequest() {
+    try (var context = MikronContext.init(ProvidesTest.class)) {
+      var created = ReportClient.CREATED.get();
+      assertThat(context.getManagedInstances()).doesNotContainKey("reportClient");
+
+      ReportClient client = context.<ReportClient>getInstance("reportClient").orElseThrow();
+      assertThat(context.getInstance("reportClient")).containsSame(client);
+      assertThat(ReportClient.CREATED.get()).isEqualTo(created + 1);
+      assertThat(client.getWorkerPool()).isSameAs(context.getInstance("workerPool").orElseThrow());
+      assertThat(client.getIdPattern().pattern()).isEqualTo("[a-z]+-[0-9]+");
+      client.getWorkerPool().shutdown();
+    }
+  }
+
+  @Test
+  void testProvidedInstancesOfSameNameAreRejected() {
+    var builder = MikronContext.builder()
+        .register(PoolConfiguration.class, PoolConfiguration::new);
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalManagedTypeException.class)
+        .hasMessageContaining(ExecutorService.class.getName())
+        .hasMessageContaining(PoolConfiguration.class.getName() + "#ioPool")
+        .hasMessageContaining(PoolConfiguration.class.getName() + "#cpuPool");
+  }
+
+  @Test
+  void testDependencyGraphOfProvidedInstances() {
+    try (var context = MikronContext.init(ProvidesTest.class)) {
+      var graph = context.getDependencyGraph();
+      assertThat(graph.getNode("ResourceConsumer").orElseThrow().dependencies())
+          .containsExactly("idPattern");
+      assertThat(graph.getNode("reportClient").orElseThrow().dependencies())
+          .containsExactly("ResourceConfiguration", "workerPool", "idPattern");
+      var order = graph.getTopologicalOrder();
+      assertThat(order.indexOf("ResourceConfiguration")).isLessThan(order.indexOf("idPattern"));
+      assertThat(order.indexOf("idPattern")).isLessThan(order.indexOf("ResourceConsumer"));
+      assertThat(graph.getStartupCost("ResourceConsumer")).isPresent();
+      assertThat(graph.getStartupCost("reportClient")).isEmpty();
+      assertThat(graph.getCriticalPath()).startsWith("ResourceConfiguration");
+      assertThat(graph.toDot())
+          .contains("\"ResourceConsumer\" -> \"idPattern\";")
+          .contains("\"reportClient\" [label=\"reportClient\\n0.000 ms\", style=dashed];");
+      assertThat(graph.toJson())
+          .contains("{\"name\":\"ResourceConsumer\",\"type\":\""
+              + ResourceConsumer.class.getName() + "\",\"lazy\":false,")
+          .contains("\"dependencies\":[\"idPattern\"]}");
+      context.<ExecutorService>getInstance("workerPool").orElseThrow()
+          .shutdown();
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test16;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class ReportClient {
+
+  static final AtomicInteger CREATED = new AtomicInteger();
+
+  private final ExecutorService workerPool;
+  private final Pattern idPattern;
+
+  public ReportClient(ExecutorService workerPool, Pattern idPattern) {
+    this.workerPool = workerPool;
+    this.idPattern = idPattern;
+    CREATED.incrementAndGet();
+  }
+
+  public ExecutorService getWorkerPool() {
+    return workerPool;
+  }
+
+  public Pattern getIdPattern() {
+    return idPattern;
+  }
+}
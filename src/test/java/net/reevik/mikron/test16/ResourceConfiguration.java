@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test16;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import net.reevik.mikron.annotation.Configurable;
+import net.reevik.mikron.annotation.Managed;
+import net.reevik.mikron.annotation.Provides;
+import net.reevik.mikron.annotation.Wire;
+
+@Managed(name = "ResourceConfiguration")
+public class ResourceConfiguration {
+
+  @Configurable(name = "id.pattern")
+  private String idPattern = "[a-z]+-[0-9]+";
+
+  @Provides(name = "workerPool")
+  ExecutorService workerPool() {
+    return Executors.newFixedThreadPool(2);
+  }
+
+  @Provides(name = "idPattern")
+  Pattern idPattern() {
+    return Pattern.compile(idPattern);
+  }
+
+  @Provides(name = "reportClient", lazy = true)
+  static ReportClient reportClient(@Wire(name = "workerPool") ExecutorService workerPool,
+      Pattern idPattern) {
+    return new ReportClient(workerPool, idPattern);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test17;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.reevik.mikron.configuration.ConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.ioc.ApplicationInitializationException;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class AsyncInitializationTest {
+
+  @Test
+  void testContextAwaitsAsyncInitializations() {
+    try (var context = MikronContext.builder()
+        .register(WarmupCache.class, WarmupCache::new)
+        .register(ConnectionPool.class, ConnectionPool::new)
+        .build()) {
+      WarmupCache cache = context.<WarmupCache>getInstance(WarmupCache.class.getName())
+          .orElseThrow();
+      assertThat(cache.isLoaded()).isTrue();
+      assertThat(cache.isLoadedOnVirtualThread()).isTrue();
+      assertThat(context.<ConnectionPool>getInstance(ConnectionPool.class.getName())
+          .orElseThrow().isConnected()).isTrue();
+      assertThat(context.whenInitialized().toCompletableFuture()).isCompleted();
+    }
+  }
+
+  @Test
+  void testFailureCancelsSiblingInitializations() throws InterruptedException {
+    var stalledService = new StalledService();
+    var builder = MikronContext.builder()
+        .register(StalledService.class, () -> stalledService)
+        .register(FailingService.class, FailingService::new);
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(ApplicationInitializationException.class)
+        .hasMessageContaining(FailingService.class.getName())
+        .hasRootCauseInstanceOf(IllegalStateException.class);
+    assertThat(stalledService.getInterrupted().await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void testInitializedInstancesAreCleanedUpOnFailure() {
+    var auditLog = new AuditLog();
+    var builder = MikronContext.builder()
+        .register(AuditLog.class, () -> auditLog)
+        .register(FailingService.class, FailingService::new);
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(ApplicationInitializationException.class)
+        .hasMessageContaining(FailingService.class.getName());
+    assertThat(auditLog.isOpened()).isTrue();
+    assertThat(auditLog.isClosed()).isTrue();
+  }
+
+  @Test
+  void testTimeout() {
+    var builder = MikronContext.builder()
+        .register(StalledService.class, StalledService::new);
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(ApplicationInitializationException.class)
+        .hasMessageContaining("timed out");
+  }
+
+  @Test
+  void testNonBlockingInitialization() {
+    try (var context = MikronContext.builder()
+        .propertiesRepository(new PropertiesRepository(List.of(new ContextSource())))
+        .register(WarmupCache.class, WarmupCache::new)
+        .build()) {
+      WarmupCache cache = context.<WarmupCache>getInstance(WarmupCache.class.getName())
+          .orElseThrow();
+      assertThat(cache.isLoaded()).isFalse();
+      context.whenInitialized().toCompletableFuture().join();
+      assertThat(cache.isLoaded()).isTrue();
+    }
+  }
+
+  @Test
+  void testLazyInstancesAwaitTheirAsyncInitializations() {
+    try (var context = MikronContext.builder()
+        .register(LazyResources.class, LazyResources::new)
+        .build()) {
+      assertThat(context.getManagedInstances()).doesNotContainKey("lazyCache");
+      WarmupCache cache = context.<WarmupCache>getInstance("lazyCache").orElseThrow();
+      assertThat(cache.isLoaded()).isTrue();
+      assertThat(cache.isLoadedOnVirtualThread()).isTrue();
+
+      assertThatThrownBy(() -> context.getInstance("lazyFailingService"))
+          .isInstanceOf(ApplicationInitializationException.class)
+          .hasMessageContaining("lazyFailingService")
+          .hasRootCauseInstanceOf(IllegalStateException.class);
+      assertThat(context.getManagedInstances()).doesNotContainKey("lazyFailingService");
+    }
+  }
+
+  private static class ContextSource implements ConfigSource {
+
+    @Override
+    public int getOrdinal() {
+      return PROPERTIES_ORDINAL;
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public Set<String> getSourceNames() {
+      return Set.of(MikronContext.class.getSimpleName());
+    }
+
+    @Override
+    public Optional<Properties> getConfiguration(String name) {
+      if (!getSourceNames().contains(name)) {
+        return Optional.empty();
+      }
+      var properties = new Properties();
+      properties.setProperty("mikron.initialize.await", "false");
+      return Optional.of(properties);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test17;
+
+import java.util.concurrent.CountDownLatch;
+import net.reevik.mikron.annotation.Initialize;
+
+public class StalledService {
+
+  private final CountDownLatch interrupted = new CountDownLatch(1);
+
+  @Initialize(async = true, timeout = 200)
+  public void warmup() {
+    try {
+      Thread.sleep(10_000);
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+    }
+  }
+
+  public CountDownLatch getInterrupted() {
+    return interrupted;
+  }
+}
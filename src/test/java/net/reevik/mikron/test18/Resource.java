@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test18;
+
+import java.util.List;
+import net.reevik.mikron.annotation.CleanUp;
+
+public class Resource {
+
+  private final String name;
+  private final List<String> closed;
+  private final long delay;
+
+  public Resource(String name, List<String> closed, long delay) {
+    this.name = name;
+    this.closed = closed;
+    this.delay = delay;
+  }
+
+  @CleanUp
+  public void close() throws InterruptedException {
+    Thread.sleep(delay);
+    if (name.startsWith("Failing")) {
+      throw new IllegalStateException("Cannot close " + name);
+    }
+    closed.add(name);
+  }
+}
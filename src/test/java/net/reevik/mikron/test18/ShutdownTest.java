@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test18;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import net.reevik.mikron.ioc.CleanUpException;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class ShutdownTest {
+
+  private final List<String> closed = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  void testCleanUpInReverseDependencyOrder() {
+    var context = MikronContext.builder()
+        .register("Database", Resource.class, ctx -> new Resource("Database", closed, 50))
+        .register("Repository", Resource.class, ctx -> new Resource("Repository", closed, 0))
+        .dependsOn("Repository", "Database")
+        .register("Service", Resource.class, ctx -> new Resource("Service", closed, 100))
+        .dependsOn("Service", "Repository")
+        .build();
+    context.close();
+    assertThat(closed).containsExactly("Service", "Repository", "Database");
+    var report = context.getShutdownReport().orElseThrow();
+    assertThat(report.isSuccessful()).isTrue();
+    assertThat(report.durations()).containsKeys("Service", "Repository", "Database");
+    assertThat(report.durations().get("Service")).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+  }
+
+  @Test
+  void testIndependentInstancesAreCleanedUpConcurrently() {
+    var builder = MikronContext.builder();
+    for (int i = 0; i < 10; i++) {
+      var name = "Worker" + i;
+      builder.register(name, Resource.class, ctx -> new Resource(name, closed, 300));
+    }
+    var context = builder.build();
+    var startedAt = System.nanoTime();
+    context.close();
+    assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+    assertThat(closed).hasSize(10);
+  }
+
+  @Test
+  void testFailuresAreCollected() {
+    var context = MikronContext.builder()
+        .register("FailingClient", Resource.class, ctx -> new Resource("FailingClient", closed, 0))
+        .register("Database", Resource.class, ctx -> new Resource("Database", closed, 0))
+        .register(HangingResource.class, HangingResource::new)
+        .dependsOn("FailingClient", "Database")
+        .build();
+    assertThatThrownBy(context::close)
+        .isInstanceOfSatisfying(CleanUpException.class, e -> {
+          var failures = e.getReport().failures();
+          assertThat(failures).containsOnlyKeys("FailingClient",
+              HangingResource.class.getName());
+          assertThat(failures.get("FailingClient")).isInstanceOf(IllegalStateException.class);
+          assertThat(failures.get(HangingResource.class.getName()))
+              .isInstanceOf(TimeoutException.class);
+          assertThat(e.getReport().drained()).isTrue();
+        });
+    assertThat(closed).containsExactly("Database");
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test19;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class AsyncMethodTest {
+
+  @Test
+  void testAsyncMethodsRunOnContextExecutor() throws InterruptedException {
+    var context = MikronContext.builder()
+        .register(DefaultReportService.class, DefaultReportService::new)
+        .register(ReportController.class, ReportController::new)
+        .dependsOn(ReportController.class.getName(), DefaultReportService.class.getName())
+        .build();
+    var controller = context.<ReportController>getInstance(ReportController.class.getName())
+        .orElseThrow();
+    var reportService = controller.getReportService();
+    assertThat(reportService).isNotInstanceOf(DefaultReportService.class);
+    assertThat(controller.getDefaultReportService()).isInstanceOf(DefaultReportService.class);
+
+    assertThat(reportService.render("sales").join()).startsWith("sales rendered by mikron-async-");
+    assertThat(reportService.getThreadName()).isEqualTo(Thread.currentThread().getName());
+    reportService.audit("login");
+    assertThat(controller.getDefaultReportService().getAudited().await(5, TimeUnit.SECONDS))
+        .isTrue();
+    assertThat(controller.getDefaultReportService().getEvents()).containsExactly("login@true");
+    assertThatThrownBy(() -> reportService.render("").join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+
+    assertThat(reportService.render("sales", 3).join()).isEqualTo("3 copies of sales");
+
+    var name = DefaultReportService.class.getName();
+    var metrics = context.getAsyncMetrics().get(name + "#render(java.lang.String)");
+    assertThat(metrics.getSubmitted()).isEqualTo(2);
+    assertThat(metrics.getCompleted()).isEqualTo(1);
+    assertThat(metrics.getFailed()).isEqualTo(1);
+    assertThat(metrics.getPending()).isZero();
+    assertThat(context.getAsyncMetrics().get(name + "#render(java.lang.String,int)")
+        .getCompleted()).isEqualTo(1);
+    context.close();
+    assertThatThrownBy(() -> reportService.render("sales").join())
+        .isInstanceOf(CompletionException.class);
+  }
+}
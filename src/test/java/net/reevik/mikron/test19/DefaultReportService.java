@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test19;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import net.reevik.mikron.annotation.Async;
+
+public class DefaultReportService implements ReportService {
+
+  private final List<String> events = new CopyOnWriteArrayList<>();
+  private final CountDownLatch audited = new CountDownLatch(1);
+
+  @Async
+  @Override
+  public CompletableFuture<String> render(String name) {
+    if (name.isEmpty()) {
+      throw new IllegalArgumentException("The report name is empty.");
+    }
+    return CompletableFuture.completedFuture(name + " rendered by "
+        + Thread.currentThread().getName());
+  }
+
+  @Async
+  @Override
+  public CompletableFuture<String> render(String name, int copies) {
+    return CompletableFuture.completedFuture(copies + " copies of " + name);
+  }
+
+  @Async
+  @Override
+  public void audit(String event) {
+    events.add(event + "@" + Thread.currentThread().isVirtual());
+    audited.countDown();
+  }
+
+  @Override
+  public String getThreadName() {
+    return Thread.currentThread().getName();
+  }
+
+  public List<String> getEvents() {
+    return events;
+  }
+
+  public CountDownLatch getAudited() {
+    return audited;
+  }
+}
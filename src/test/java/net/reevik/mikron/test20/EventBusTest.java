@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test20;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import net.reevik.mikron.configuration.ConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class EventBusTest {
+
+  @Test
+  void testEventsAreDeliveredToListenersOfSupertypes() {
+    var mailer = new Mailer();
+    mailer.release();
+    var context = MikronContext.builder()
+        .register(AuditLog.class, AuditLog::new)
+        .register(Mailer.class, () -> mailer)
+        .build();
+    var eventBus = context.getEventBus();
+    assertThat(eventBus.getListenerCount(OrderPlaced.class)).isEqualTo(2);
+    assertThat(eventBus.getListenerCount(DomainEvent.class)).isEqualTo(1);
+    assertThat(eventBus.getListenerCount(String.class)).isZero();
+
+    eventBus.publish(new OrderPlaced("order-1"));
+    eventBus.publish((DomainEvent) () -> "refund-1");
+    var auditLog = context.<AuditLog>getInstance(AuditLog.class.getName()).orElseThrow();
+    var thread = Thread.currentThread().getName();
+    assertThat(auditLog.getEntries()).containsExactly("order-1@" + thread, "refund-1@" + thread);
+    context.close();
+    assertThat(mailer.getSent()).containsExactly("order-1@true");
+  }
+
+  @Test
+  void testPublishersWaitOnFullQueues() throws InterruptedException {
+    var mailer = new Mailer();
+    var context = MikronContext.builder()
+        .propertiesRepository(new PropertiesRepository(List.of(new ContextSource())))
+        .register(Mailer.class, () -> mailer)
+        .build();
+    var eventBus = context.getEventBus();
+    eventBus.publish(new OrderPlaced("order-1"));
+    eventBus.publish(new OrderPlaced("order-2"));
+    var publisher = Thread.ofVirtual().start(() -> eventBus.publish(new OrderPlaced("order-3")));
+    assertThat(publisher.join(Duration.ofMillis(200))).isFalse();
+    mailer.release();
+    assertThat(publisher.join(Duration.ofSeconds(5))).isTrue();
+    context.close();
+    assertThat(mailer.getSent()).containsExactly("order-1@true", "order-2@true", "order-3@true");
+  }
+
+  @Test
+  void testPublishingAfterCloseIsRejected() throws InterruptedException {
+    var mailer = new Mailer();
+    var context = MikronContext.builder()
+        .propertiesRepository(new PropertiesRepository(List.of(new ContextSource())))
+        .register(Mailer.class, () -> mailer)
+        .build();
+    var eventBus = context.getEventBus();
+    eventBus.publish(new OrderPlaced("order-1"));
+    eventBus.publish(new OrderPlaced("order-2"));
+    var publisher = Thread.ofVirtual().start(() -> eventBus.publish(new OrderPlaced("order-3")));
+    context.close();
+    assertThat(publisher.join(Duration.ofSeconds(10))).isTrue();
+    assertThatThrownBy(() -> eventBus.publish(new OrderPlaced("order-4")))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(mailer.getSent()).isEmpty();
+  }
+
+  private static class ContextSource implements ConfigSource {
+
+    @Override
+    public int getOrdinal() {
+      return PROPERTIES_ORDINAL;
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public Set<String> getSourceNames() {
+      return Set.of(MikronContext.class.getSimpleName());
+    }
+
+    @Override
+    public Optional<Properties> getConfiguration(String name) {
+      if (!getSourceNames().contains(name)) {
+        return Optional.empty();
+      }
+      var properties = new Properties();
+      properties.setProperty("mikron.events.queue.capacity", "1");
+      properties.setProperty("mikron.shutdown.timeout", "500");
+      return Optional.of(properties);
+    }
+  }
+}
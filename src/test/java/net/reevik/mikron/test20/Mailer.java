@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test20;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import net.reevik.mikron.annotation.Listen;
+
+public class Mailer {
+
+  private final List<String> sent = new CopyOnWriteArrayList<>();
+  private final CountDownLatch released = new CountDownLatch(1);
+
+  @Listen(async = true)
+  public void send(OrderPlaced event) throws InterruptedException {
+    released.await();
+    sent.add(event.id() + "@" + Thread.currentThread().isVirtual());
+  }
+
+  public List<String> getSent() {
+    return sent;
+  }
+
+  public void release() {
+    released.countDown();
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test21;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.reevik.mikron.annotation.Scheduled;
+
+public class MetricFlusher {
+
+  private final AtomicInteger flushes = new AtomicInteger();
+  private final CountDownLatch flushed = new CountDownLatch(2);
+
+  @Scheduled(fixedDelay = 10_000, initialDelay = 10_000, prefix = "flush")
+  void flush() throws InterruptedException {
+    Thread.sleep(100);
+    flushes.incrementAndGet();
+    flushed.countDown();
+  }
+
+  public CountDownLatch getFlushed() {
+    return flushed;
+  }
+
+  public int getFlushes() {
+    return flushes.get();
+  }
+}
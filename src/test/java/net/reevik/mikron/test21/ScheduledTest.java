@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test21;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.reevik.mikron.configuration.ConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class ScheduledTest {
+
+  @Test
+  void testScheduledMethods() throws InterruptedException {
+    var refresher = new CacheRefresher();
+    var flusher = new MetricFlusher();
+    var context = MikronContext.builder()
+        .propertiesRepository(new PropertiesRepository(List.of(new FlusherSource())))
+        .register(CacheRefresher.class, () -> refresher)
+        .register("MetricFlusher", MetricFlusher.class, ctx -> flusher)
+        .build();
+    assertThat(refresher.getRefreshed().await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(flusher.getFlushed().await(30, TimeUnit.SECONDS)).isTrue();
+    context.close();
+    var refreshes = refresher.getRefreshes();
+    assertThat(refreshes).isGreaterThanOrEqualTo(5);
+    assertThat(refresher.isVirtual()).isTrue();
+
+    var metrics = context.getScheduleMetrics();
+    var refreshMetrics = metrics.get(CacheRefresher.class.getName() + "#refresh");
+    assertThat(refreshMetrics.getExecutions()).isEqualTo(refreshes);
+    assertThat(refreshMetrics.getAverageDrift()).isLessThanOrEqualTo(refreshMetrics.getMaxDrift());
+    var flushMetrics = metrics.get("MetricFlusher#flush");
+    assertThat(flushMetrics.getExecutions()).isEqualTo(flusher.getFlushes());
+    assertThat(flushMetrics.getOverruns()).isZero();
+    assertThat(flushMetrics.getLastDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+
+    Thread.sleep(150);
+    assertThat(refresher.getRefreshes()).isEqualTo(refreshes);
+  }
+
+  @Test
+  void testOverrunsAreSkipped() throws InterruptedException {
+    var job = new SlowJob();
+    var context = MikronContext.builder()
+        .register(SlowJob.class, () -> job)
+        .build();
+    var metrics = context.getScheduleMetrics().get(SlowJob.class.getName() + "#run");
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (metrics.getOverruns() < 3 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(metrics.getOverruns()).isGreaterThanOrEqualTo(3);
+    assertThat(metrics.getExecutions()).isZero();
+    job.release();
+    context.close();
+    assertThat(metrics.getExecutions()).isGreaterThanOrEqualTo(1);
+  }
+
+  private static class FlusherSource implements ConfigSource {
+
+    @Override
+    public int getOrdinal() {
+      return PROPERTIES_ORDINAL;
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public Set<String> getSourceNames() {
+      return Set.of("MetricFlusher");
+    }
+
+    @Override
+    public Optional<Properties> getConfiguration(String name) {
+      if (!getSourceNames().contains(name)) {
+        return Optional.empty();
+      }
+      var properties = new Properties();
+      properties.setProperty("flush.fixedDelay", "50");
+      properties.setProperty("flush.initialDelay", "0");
+      return Optional.of(properties);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test22;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class InterceptorTest {
+
+  @Test
+  void testInterceptorChains() {
+    try (var context = MikronContext.builder()
+        .register(TracingInterceptor.class, TracingInterceptor::new)
+        .register(UppercaseInterceptor.class, UppercaseInterceptor::new)
+        .register(DefaultGreeter.class, DefaultGreeter::new)
+        .register(FixedClock.class, FixedClock::new)
+        .register(GreetingClient.class, GreetingClient::new)
+        .build()) {
+      var client = context.<GreetingClient>getInstance(GreetingClient.class.getName())
+          .orElseThrow();
+      var tracing = context.<TracingInterceptor>getInstance(TracingInterceptor.class.getName())
+          .orElseThrow();
+
+      assertThat(client.getGreeter()).isNotInstanceOf(DefaultGreeter.class);
+      assertThat(client.getGreeter().greet("mikron")).isEqualTo("HELLO, MIKRON");
+      assertThat(client.getGreeter().count(3)).isEqualTo(3);
+      assertThat(tracing.getTraces()).containsExactly("enter greet", "exit greet");
+
+      assertThat(client.getClock()).isInstanceOf(FixedClock.class);
+      assertThat(context.getInstance(FixedClock.class.getName(), Clock.class).orElseThrow())
+          .isInstanceOf(FixedClock.class);
+      assertThat(context.getInstance(DefaultGreeter.class.getName(), Greeter.class)
+          .orElseThrow().greet("x")).isEqualTo("HELLO, X");
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test22;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import net.reevik.mikron.annotation.Intercepts;
+import net.reevik.mikron.interceptor.Invocation;
+import net.reevik.mikron.interceptor.MethodInterceptor;
+
+@Intercepts(annotations = Traced.class, order = 1)
+public class TracingInterceptor implements MethodInterceptor {
+
+  private final List<String> traces = new CopyOnWriteArrayList<>();
+
+  @Override
+  public Object intercept(Invocation invocation, Object target, Object[] arguments)
+      throws Throwable {
+    traces.add("enter " + invocation.getMethod().getName());
+    try {
+      return invocation.proceed(target, arguments);
+    } finally {
+      traces.add("exit " + invocation.getMethod().getName());
+    }
+  }
+
+  public List<String> getTraces() {
+    return traces;
+  }
+}
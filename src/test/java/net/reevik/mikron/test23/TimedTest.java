@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test23;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class TimedTest {
+
+  @Test
+  void testTimedMethods() {
+    try (var context = MikronContext.builder()
+        .register(WarehouseInventory.class, WarehouseInventory::new)
+        .build()) {
+      var inventory = context.getInstance(WarehouseInventory.class.getName(), Inventory.class)
+          .orElseThrow();
+      for (int i = 1; i <= 100; i++) {
+        assertThat(inventory.reserve("sku-1", i)).isEqualTo(i);
+      }
+      assertThatThrownBy(() -> inventory.reserve("sku-1", 0))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(inventory.reserve("sku-1")).isEqualTo(1);
+      inventory.release("sku-1");
+
+      var name = WarehouseInventory.class.getName();
+      var snapshots = context.getTimerSnapshots();
+      var reserve = snapshots.get(name + "#reserve(java.lang.String,int)");
+      assertThat(reserve.calls()).isEqualTo(101);
+      assertThat(reserve.errors()).isEqualTo(1);
+      assertThat(reserve.p50()).isPositive().isLessThanOrEqualTo(reserve.p99());
+      assertThat(reserve.p99()).isLessThanOrEqualTo(reserve.max());
+      assertThat(snapshots.get(name + "#reserve(java.lang.String)").calls()).isEqualTo(1);
+      assertThat(snapshots.get(name + "#release(java.lang.String)").calls()).isEqualTo(1);
+      assertThat(context.getTimerSnapshotsAsJson())
+          .startsWith("[{\"name\":\"" + name + "#release(java.lang.String)\"")
+          .contains("\"calls\":101,\"errors\":1,");
+    }
+  }
+}
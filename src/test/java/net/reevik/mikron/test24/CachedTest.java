@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test24;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import net.reevik.mikron.configuration.ConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class CachedTest {
+
+  private static final String NAME = FixedCurrencyService.class.getName();
+
+  @Test
+  void testCachedResults() throws InterruptedException {
+    try (var context = MikronContext.builder()
+        .register(FixedCurrencyService.class, FixedCurrencyService::new)
+        .build()) {
+      var service = context.getInstance(NAME, CurrencyService.class).orElseThrow();
+      var target = context.<FixedCurrencyService>getInstance(NAME).orElseThrow();
+      assertThat(service.symbol("EUR")).isEqualTo("€");
+      assertThat(service.symbol("EUR")).isEqualTo("€");
+      assertThat(service.symbol("GBP")).isNull();
+      assertThat(service.symbol("GBP")).isNull();
+      assertThat(target.getLookups()).isEqualTo(2);
+
+      assertThat(service.format("EUR", 10, 2)).isEqualTo("EUR 10");
+      assertThat(service.format("EUR", 10, 2)).isEqualTo("EUR 10");
+      assertThat(service.format("EUR", 10, 3)).isEqualTo("EUR 10");
+      assertThatThrownBy(() -> service.format("EUR", 10, -1))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> service.format("EUR", 10, -1))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(target.getLookups()).isEqualTo(6);
+
+      assertThat(service.rate("EUR", "USD")).isEqualTo(1.1);
+      assertThat(service.rate("EUR", "USD")).isEqualTo(1.1);
+      assertThat(target.getLookups()).isEqualTo(7);
+      Thread.sleep(100);
+      assertThat(service.rate("EUR", "USD")).isEqualTo(1.1);
+      assertThat(target.getLookups()).isEqualTo(8);
+
+      var stats = context.getCacheStats().get("symbols");
+      assertThat(stats.hits()).isEqualTo(2);
+      assertThat(stats.misses()).isEqualTo(2);
+      assertThat(stats.hitRate()).isEqualTo(0.5);
+      assertThat(context.getCacheStats()).containsKey(NAME + "#rate");
+    }
+  }
+
+  @Test
+  void testMaximumSizeFromConfiguration() {
+    try (var context = MikronContext.builder()
+        .propertiesRepository(new PropertiesRepository(List.of(new CacheSource())))
+        .register(FixedCurrencyService.class, FixedCurrencyService::new)
+        .build()) {
+      var service = context.getInstance(NAME, CurrencyService.class).orElseThrow();
+      for (int i = 0; i < 10; i++) {
+        service.symbol("EUR");
+      }
+      for (int i = 0; i < 100; i++) {
+        service.symbol("XX" + i);
+      }
+      var stats = context.getCacheStats().get("symbols");
+      assertThat(stats.maximumSize()).isEqualTo(10);
+      assertThat(stats.size()).isLessThanOrEqualTo(10);
+      assertThat(stats.evictions()).isEqualTo(91);
+      var target = context.<FixedCurrencyService>getInstance(NAME).orElseThrow();
+      var lookups = target.getLookups();
+      assertThat(service.symbol("EUR")).isEqualTo("€");
+      assertThat(target.getLookups()).isEqualTo(lookups);
+    }
+  }
+
+  @Test
+  void testCachesArePerInstanceAndMethod() {
+    try (var context = MikronContext.builder()
+        .register("a", PrefixedLabelService.class, ctx -> new PrefixedLabelService("a"))
+        .register("b", PrefixedLabelService.class, ctx -> new PrefixedLabelService("b"))
+        .build()) {
+      var a = context.getInstance("a", LabelService.class).orElseThrow();
+      var b = context.getInstance("b", LabelService.class).orElseThrow();
+      assertThat(a.label("1")).isEqualTo("a1");
+      assertThat(b.label("1")).isEqualTo("b1");
+      assertThat(a.code("1")).isEqualTo("A-1");
+      assertThat(a.label("1")).isEqualTo("a1");
+      var stats = context.getCacheStats().get("labels");
+      assertThat(stats.hits()).isEqualTo(1);
+      assertThat(stats.misses()).isEqualTo(3);
+      assertThat(stats.size()).isEqualTo(3);
+    }
+  }
+
+  private static class CacheSource implements ConfigSource {
+
+    @Override
+    public int getOrdinal() {
+      return PROPERTIES_ORDINAL;
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public Set<String> getSourceNames() {
+      return Set.of(MikronContext.class.getSimpleName());
+    }
+
+    @Override
+    public Optional<Properties> getConfiguration(String name) {
+      if (!getSourceNames().contains(name)) {
+        return Optional.empty();
+      }
+      var properties = new Properties();
+      properties.setProperty("mikron.cache.symbols.maximumSize", "10");
+      return Optional.of(properties);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test24;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import net.reevik.mikron.annotation.Cached;
+
+public class FixedCurrencyService implements CurrencyService {
+
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  @Cached(name = "symbols")
+  @Override
+  public String symbol(String currency) {
+    lookups.incrementAndGet();
+    return switch (currency) {
+      case "EUR" -> "€";
+      case "USD" -> "$";
+      default -> null;
+    };
+  }
+
+  @Cached(ttl = 50)
+  @Override
+  public Double rate(String from, String to) {
+    lookups.incrementAndGet();
+    return from.equals(to) ? 1.0 : 1.1;
+  }
+
+  @Cached
+  @Override
+  public String format(String currency, long amount, int scale) {
+    lookups.incrementAndGet();
+    if (scale < 0) {
+      throw new IllegalArgumentException("The scale must not be negative.");
+    }
+    return currency + " " + amount;
+  }
+
+  public int getLookups() {
+    return lookups.get();
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test24;
+
+import net.reevik.mikron.annotation.Cached;
+
+public class PrefixedLabelService implements LabelService {
+
+  private final String prefix;
+
+  public PrefixedLabelService(String prefix) {
+    this.prefix = prefix;
+  }
+
+  @Cached(name = "labels")
+  @Override
+  public String label(String id) {
+    return prefix + id;
+  }
+
+  @Cached(name = "labels")
+  @Override
+  public String code(String id) {
+    return prefix.toUpperCase() + "-" + id;
+  }
+}
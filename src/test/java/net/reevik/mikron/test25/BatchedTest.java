@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test25;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.reevik.mikron.configuration.ConfigSource;
+import net.reevik.mikron.configuration.PropertiesRepository;
+import net.reevik.mikron.ioc.IllegalManagedTypeException;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class BatchedTest {
+
+  private static final String NAME = BulkProfileStore.class.getName();
+
+  @Test
+  void testConcurrentCallsAreBatched() throws Exception {
+    try (var context = MikronContext.builder()
+        .register(BulkProfileStore.class, BulkProfileStore::new)
+        .build();
+        var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var store = context.getInstance(NAME, ProfileStore.class).orElseThrow();
+      var results = new ArrayList<Future<String>>();
+      for (int i = 0; i < 50; i++) {
+        var id = i % 25;
+        results.add(executor.submit(() -> store.find(id)));
+      }
+      for (int i = 0; i < 50; i++) {
+        assertThat(results.get(i).get()).isEqualTo("profile-" + i % 25);
+      }
+      var target = context.<BulkProfileStore>getInstance(NAME).orElseThrow();
+      assertThat(target.getBatchSizes()).hasSizeLessThan(50)
+          .allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(25));
+      assertThatThrownBy(() -> store.find(-1)).isInstanceOf(IllegalArgumentException.class);
+
+      var snapshot = context.getBatchSnapshots().get(NAME + "#find");
+      assertThat(snapshot.calls()).isEqualTo(51);
+      assertThat(snapshot.batches()).isEqualTo(target.getBatchSizes().size());
+      assertThat(snapshot.maxWait()).isPositive();
+    }
+  }
+
+  @Test
+  void testBatchIsDispatchedOnceFull() {
+    try (var context = MikronContext.builder()
+        .propertiesRepository(new PropertiesRepository(List.of(new BatchSource())))
+        .register(BulkProfileStore.class, BulkProfileStore::new)
+        .build()) {
+      var store = context.getInstance(NAME, ProfileStore.class).orElseThrow();
+      var futures = new ArrayList<CompletableFuture<String>>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(store.findLater(i));
+      }
+      for (int i = 0; i < 8; i++) {
+        assertThat(futures.get(i).isDone()).isEqualTo(i < 5);
+      }
+      futures.add(store.findLater(8));
+      futures.add(store.findLater(8));
+      assertThat(futures).allMatch(CompletableFuture::isDone);
+      assertThat(futures.get(9).join()).isEqualTo("profile-8");
+      var target = context.<BulkProfileStore>getInstance(NAME).orElseThrow();
+      assertThat(target.getBatchSizes()).containsExactly(5, 4);
+      var snapshot = context.getBatchSnapshots().get("profiles");
+      assertThat(snapshot.batches()).isEqualTo(2);
+      assertThat(snapshot.calls()).isEqualTo(8 + 2);
+      assertThat(snapshot.maxBatchSize()).isEqualTo(5);
+    }
+  }
+
+  @Test
+  void testBatchersSharingNameAreSeparate() {
+    try (var context = MikronContext.builder()
+        .register(BulkProfileStore.class, BulkProfileStore::new)
+        .register(ArchivedProfileStore.class, ArchivedProfileStore::new)
+        .build()) {
+      var store = context.getInstance(NAME, ProfileStore.class).orElseThrow();
+      var archive = context.getInstance(ArchivedProfileStore.class.getName(), ProfileStore.class)
+          .orElseThrow();
+      var current = store.findLater(1);
+      var archived = archive.findLater(1);
+      assertThat(current.join()).isEqualTo("profile-1");
+      assertThat(archived.join()).isEqualTo("archived-1");
+      assertThat(context.getBatchSnapshots().get("profiles").calls()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void testPrimitiveReturnTypeIsRejected() {
+    var builder = MikronContext.builder()
+        .register(CounterStore.class, CounterStore::new);
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalManagedTypeException.class)
+        .hasMessageContaining("primitive");
+  }
+
+  private static class BatchSource implements ConfigSource {
+
+    @Override
+    public int getOrdinal() {
+      return PROPERTIES_ORDINAL;
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public Set<String> getSourceNames() {
+      return Set.of(MikronContext.class.getSimpleName());
+    }
+
+    @Override
+    public Optional<Properties> getConfiguration(String name) {
+      if (!getSourceNames().contains(name)) {
+        return Optional.empty();
+      }
+      var properties = new Properties();
+      properties.setProperty("mikron.batch.profiles.maxSize", "5");
+      return Optional.of(properties);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test25;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.reevik.mikron.annotation.Batched;
+
+public class BulkProfileStore implements ProfileStore {
+
+  private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+  @Batched(value = "findAll", window = 50)
+  @Override
+  public String find(Integer id) {
+    throw new AssertionError("The calls should be batched.");
+  }
+
+  @Batched(value = "findAll", name = "profiles", window = 1_000)
+  @Override
+  public CompletableFuture<String> findLater(Integer id) {
+    throw new AssertionError("The calls should be batched.");
+  }
+
+  Map<Integer, String> findAll(List<Integer> ids) {
+    batchSizes.add(ids.size());
+    if (ids.contains(-1)) {
+      throw new IllegalArgumentException("Unknown profile.");
+    }
+    return ids.stream().collect(Collectors.toMap(Function.identity(), id -> "profile-" + id));
+  }
+
+  public List<Integer> getBatchSizes() {
+    return batchSizes;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test26;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.reevik.mikron.ioc.MikronContext;
+import org.junit.jupiter.api.Test;
+
+public class CoalesceTest {
+
+  private static final String NAME = SlowPriceLoader.class.getName();
+
+  @Test
+  void testIdenticalCallsInFlightAreCoalesced() throws Exception {
+    try (var context = MikronContext.builder()
+        .register(SlowPriceLoader.class, SlowPriceLoader::new)
+        .build();
+        var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var loader = context.getInstance(NAME, PriceLoader.class).orElseThrow();
+      var target = context.<SlowPriceLoader>getInstance(NAME).orElseThrow();
+      var release = new CountDownLatch(1);
+      target.hold(release);
+      var prices = new ArrayList<Future<Long>>();
+      for (int i = 0; i < 100; i++) {
+        prices.add(executor.submit(() -> loader.load("sku-1")));
+      }
+      var other = executor.submit(() -> loader.load("sku-22"));
+      while (context.getCoalescedCalls() < 99 || target.getLoads() < 2) {
+        Thread.sleep(1);
+      }
+      release.countDown();
+      for (var price : prices) {
+        assertThat(price.get()).isEqualTo(500L);
+      }
+      assertThat(other.get()).isEqualTo(600L);
+      assertThat(target.getLoads()).isEqualTo(2);
+
+      assertThat(loader.load("sku-1")).isEqualTo(500L);
+      assertThat(target.getLoads()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void testFailureIsShared() throws Exception {
+    try (var context = MikronContext.builder()
+        .register(SlowPriceLoader.class, SlowPriceLoader::new)
+        .build();
+        var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var loader = context.getInstance(NAME, PriceLoader.class).orElseThrow();
+      var target = context.<SlowPriceLoader>getInstance(NAME).orElseThrow();
+      var release = new CountDownLatch(1);
+      target.hold(release);
+      var first = executor.submit(() -> loader.load(""));
+      var second = executor.submit(() -> loader.load(""));
+      while (context.getCoalescedCalls() < 1) {
+        Thread.sleep(1);
+      }
+      release.countDown();
+      for (var result : new Future<?>[]{first, second}) {
+        assertThat(result).failsWithin(Duration.ofSeconds(5))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(IllegalArgumentException.class);
+      }
+      assertThat(target.getLoads()).isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024 Erhan Bagdemir. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.reevik.mikron.test26;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.reevik.mikron.annotation.Coalesce;
+
+public class SlowPriceLoader implements PriceLoader {
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private volatile CountDownLatch release = new CountDownLatch(0);
+
+  @Coalesce
+  @Override
+  public long load(String sku) {
+    loads.incrementAndGet();
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (sku.isEmpty()) {
+      throw new IllegalArgumentException("Unknown SKU.");
+    }
+    return sku.length() * 100L;
+  }
+
+  public void hold(CountDownLatch release) {
+    this.release = release;
+  }
+
+  public int getLoads() {
+    return loads.get();
+  }
+}